@@ -91,4 +91,16 @@ public interface IInscriberRegistry {
      */
     boolean removeRecipe(IInscriberRecipe toBeRemovedRecipe);
 
+    /**
+     * The recipes that take the given item as their middle input. The presses still have to be checked.
+     *
+     * @param input the item in the middle slot
+     *
+     * @return a subset of {@link #getRecipes()} that contains every recipe which could match the input
+     */
+    @Nonnull
+    default Collection<IInscriberRecipe> getRecipesFor(@Nonnull final ItemStack input) {
+        return this.getRecipes();
+    }
+
 }
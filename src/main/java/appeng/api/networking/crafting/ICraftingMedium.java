@@ -41,6 +41,30 @@ public interface ICraftingMedium {
      */
     boolean pushPattern(ICraftingPatternDetails patternDetails, InventoryCrafting table);
 
+    /**
+     * @param patternDetails details
+     *
+     * @return how many copies of the pattern this medium can take in one {@link #pushPatterns} call, 1 if it only
+     *         supports {@link #pushPattern}.
+     */
+    default int getMaxPatternCopies(ICraftingPatternDetails patternDetails) {
+        return 1;
+    }
+
+    /**
+     * instruct a medium to process several copies of a pattern at once. Every stack on the table is already multiplied
+     * by the number of copies. The medium has to accept either all copies or none of them.
+     *
+     * @param patternDetails details
+     * @param table          crafting table, holding the inputs of all copies
+     * @param copies         number of copies, never more than {@link #getMaxPatternCopies}
+     *
+     * @return if the copies were successfully pushed.
+     */
+    default boolean pushPatterns(ICraftingPatternDetails patternDetails, InventoryCrafting table, int copies) {
+        return copies == 1 && this.pushPattern(patternDetails, table);
+    }
+
     /**
      * @return if this is false, the crafting engine will refuse to send new jobs to this medium.
      */
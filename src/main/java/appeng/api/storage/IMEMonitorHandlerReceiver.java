@@ -49,4 +49,14 @@ public interface IMEMonitorHandlerReceiver<T extends IAEStack> {
      * called when the list updates its contents, this is mostly for handling power events.
      */
     void onListUpdate();
+
+    /**
+     * Network monitors may merge all changes of a tick and deliver them in a single {@link #postChange} call at the end
+     * of it. Listeners that have to see every change as it happens, e.g. to forward it to another network, return true.
+     *
+     * @return true to be notified of every change immediately
+     */
+    default boolean needsSynchronousUpdates() {
+        return false;
+    }
 }
@@ -101,7 +101,16 @@ public class BlockInterface extends AEBaseTileBlock {
     public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
         TileEntity tileEntity = this.getTileEntity(worldIn, pos);
         if (tileEntity != null) {
+            ((TileInterface) tileEntity).getInterfaceDuality().onNeighborChanged();
             ((TileInterface) tileEntity).updateRedstoneState();
         }
     }
+
+    @Override
+    public void onNeighborChange(final IBlockAccess world, final BlockPos pos, final BlockPos neighbor) {
+        final TileInterface tileEntity = this.getTileEntity(world, pos);
+        if (tileEntity != null) {
+            tileEntity.getInterfaceDuality().onNeighborChanged();
+        }
+    }
 }
@@ -19,8 +19,13 @@
 package appeng.client.me;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import javax.annotation.Nonnull;
@@ -42,10 +47,29 @@ import appeng.util.ItemSorters;
 import appeng.util.Platform;
 import appeng.util.prioritylist.IPartitionList;
 
+/**
+ * The client side copy of a terminal's content, and the sorted and filtered view of it that is displayed.
+ *
+ * The view holds a snapshot of every displayed entry, so it stays sorted while the entries in the list change. Updated
+ * entries are removed by their snapshot and inserted again at their new position, the view is only sorted from scratch
+ * when the sort or search settings change or most of it was updated at once.
+ */
 public class ItemRepo {
 
     private final IItemList<IAEItemStack> list = StorageChannels.items().createList();
-    private List<IAEItemStack> view = new ArrayList<>();
+    private final List<IAEItemStack> view = new ArrayList<>();
+    /**
+     * The snapshot in {@link #view} for each displayed entry of {@link #list}.
+     */
+    private final Map<IAEItemStack, IAEItemStack> shown = new HashMap<>();
+    /**
+     * Entries of {@link #list} that changed since the view was last updated.
+     */
+    private final Set<IAEItemStack> dirty = new LinkedHashSet<>();
+    /**
+     * Lower case names and tooltips of every entry, they do not change with the amount.
+     */
+    private final Map<IAEItemStack, SearchText> searchText = new HashMap<>();
     private final IScrollSource src;
     private final ISortSource sortSrc;
 
@@ -53,7 +77,7 @@ public class ItemRepo {
 
     private String searchString = "";
     private IPartitionList<IAEItemStack> myPartitionList;
-    private String innerSearch = "";
+    private SearchQuery query = SearchQuery.compile("");
     private boolean hasPower;
 
     private Enum lastView;
@@ -63,7 +87,6 @@ public class ItemRepo {
     private String lastSearch = "";
 
     private boolean resort = true;
-    private boolean changed = false;
 
     public ItemRepo(final IScrollSource src, final ISortSource sortSrc) {
         this.src = src;
@@ -84,16 +107,19 @@ public class ItemRepo {
     }
 
     public void postUpdate(final IAEItemStack is) {
-        final IAEItemStack st = this.list.findPrecise(is);
+        IAEItemStack st = this.list.findPrecise(is);
 
         if (st != null) {
             st.reset();
             IAEStack.add(st, is);
         } else {
             this.list.add(is);
+            st = this.list.findPrecise(is);
         }
 
-        changed = true;
+        if (st != null) {
+            this.dirty.add(st);
+        }
     }
 
     public long getItemCount(final IAEItemStack is) {
@@ -103,7 +129,7 @@ public class ItemRepo {
 
     public void setViewCell(final ItemStack[] list) {
         this.myPartitionList = ItemViewCell.createFilter(list);
-        this.changed = true;
+        this.resort = true;
     }
 
     public void updateView() {
@@ -130,6 +156,7 @@ public class ItemRepo {
         if (!lastSearch.equals(searchString)) {
             resort = true;
             lastSearch = searchString;
+            query = SearchQuery.compile(searchString);
         }
 
         final Enum sortBy = this.sortSrc.getSortBy();
@@ -145,25 +172,87 @@ public class ItemRepo {
             lastSortDir = sortDir;
         }
 
-        if (changed || resort) {
-            changed = false;
-            resort = false;
+        if (!resort && dirty.isEmpty()) {
+            return;
+        }
 
-            view = new ArrayList<>();
+        // the sort direction is shared by all terminals.
+        ItemSorters.setDirection((SortDir) sortDir);
+        ItemSorters.init();
 
-            ItemSorters.setDirection((SortDir) sortDir);
-            ItemSorters.init();
+        final Comparator<IAEItemStack> c = getComparator(sortBy);
 
-            Comparator<IAEItemStack> c = getComparator(sortBy);
+        // repositioning costs a search and a shift per entry, past some point sorting everything is cheaper.
+        if (resort || dirty.size() * 4 > view.size()) {
+            resort = false;
+            dirty.clear();
 
+            view.clear();
+            shown.clear();
+
+            final boolean terminalSearchToolTips = searchToolTips();
             for (IAEItemStack is : this.list) {
-                addIAE(is, viewMode);
+                addIAE(is, viewMode, terminalSearchToolTips);
             }
+            this.searchText.keySet().removeIf(is -> !is.isMeaningful());
 
             view.sort(c);
+        } else {
+            final boolean terminalSearchToolTips = searchToolTips();
+            for (IAEItemStack is : this.dirty) {
+                this.reposition(is, viewMode, terminalSearchToolTips, c);
+            }
+
+            dirty.clear();
+        }
+    }
+
+    private void reposition(final IAEItemStack is, final Enum viewMode, final boolean terminalSearchToolTips,
+            final Comparator<IAEItemStack> c) {
+        final IAEItemStack old = this.shown.remove(is);
+
+        if (old != null) {
+            final int idx = indexOf(old, c);
+            if (idx >= 0) {
+                view.remove(idx);
+            }
+        }
+
+        if (!is.isMeaningful()) {
+            this.searchText.remove(is);
+            return;
+        }
+
+        final IAEItemStack snapshot = createSnapshot(is, viewMode, terminalSearchToolTips);
+
+        if (snapshot != null) {
+            final int idx = Collections.binarySearch(view, snapshot, c);
+            view.add(idx < 0 ? -idx - 1 : idx, snapshot);
+            shown.put(is, snapshot);
         }
     }
 
+    private int indexOf(final IAEItemStack snapshot, final Comparator<IAEItemStack> c) {
+        final int idx = Collections.binarySearch(view, snapshot, c);
+
+        if (idx >= 0) {
+            // entries that compare equal can be in any order, look around the one we found.
+            for (int i = idx; i >= 0 && c.compare(view.get(i), snapshot) == 0; i--) {
+                if (view.get(i) == snapshot) {
+                    return i;
+                }
+            }
+            for (int i = idx + 1; i < view.size() && c.compare(view.get(i), snapshot) == 0; i++) {
+                if (view.get(i) == snapshot) {
+                    return i;
+                }
+            }
+        }
+
+        // not every comparator is a strict order, e.g. the one provided by Inventory Tweaks.
+        return view.indexOf(snapshot);
+    }
+
     private static Comparator<IAEItemStack> getComparator(Enum sortBy) {
         Comparator<IAEItemStack> c;
 
@@ -183,50 +272,46 @@ public class ItemRepo {
         return c;
     }
 
-    private void addIAE(IAEItemStack is, Enum viewMode) {
-
-        final boolean needsZeroCopy = viewMode == ViewItems.CRAFTABLE;
-
-        final boolean terminalSearchToolTips = AEConfig.instance().getConfigManager()
-                .getSetting(Settings.SEARCH_TOOLTIPS) != YesNo.NO;
+    private static boolean searchToolTips() {
+        return AEConfig.instance().getConfigManager().getSetting(Settings.SEARCH_TOOLTIPS) != YesNo.NO;
+    }
 
-        boolean searchMod = false;
+    private void addIAE(IAEItemStack is, Enum viewMode, boolean terminalSearchToolTips) {
+        final IAEItemStack snapshot = createSnapshot(is, viewMode, terminalSearchToolTips);
 
-        this.innerSearch = searchString.toLowerCase();
-        if (this.innerSearch.startsWith("@")) {
-            searchMod = true;
-            this.innerSearch = this.innerSearch.substring(1);
+        if (snapshot != null) {
+            this.view.add(snapshot);
+            this.shown.put(is, snapshot);
         }
+    }
 
-        Pattern m = null;
-        try {
-            m = Pattern.compile(this.innerSearch, Pattern.CASE_INSENSITIVE);
-        } catch (final Throwable ignore) {
-            try {
-                m = Pattern.compile(Pattern.quote(this.innerSearch), Pattern.CASE_INSENSITIVE);
-            } catch (final Throwable __) {
-                return;
-            }
+    /**
+     * @return the copy of the entry to display, or null if it is filtered out
+     */
+    private IAEItemStack createSnapshot(IAEItemStack is, Enum viewMode, boolean terminalSearchToolTips) {
+        if (this.query.pattern == null) {
+            return null;
         }
 
         if (this.myPartitionList != null) {
             if (!this.myPartitionList.isListed(is)) {
-                return;
+                return null;
             }
         }
 
         if (viewMode == ViewItems.CRAFTABLE && !is.isCraftable()) {
-            return;
+            return null;
         }
 
         if (viewMode == ViewItems.STORED && is.getStackSize() == 0) {
-            return;
+            return null;
         }
 
-        final String dspName = (searchMod ? Platform.getModId(is) : Platform.getItemDisplayName(is)).toLowerCase();
+        final SearchText text = this.searchText.computeIfAbsent(is, SearchText::new);
+        final String dspName = this.query.searchMod ? text.modId : text.displayName;
         boolean foundMatchingItemStack = true;
 
-        for (String term : innerSearch.split(" ")) {
+        for (String term : this.query.terms) {
             if (term.length() > 1 && (term.startsWith("-") || term.startsWith("!"))) {
                 term = term.substring(1);
                 if (dspName.contains(term)) {
@@ -240,22 +325,23 @@ public class ItemRepo {
         }
 
         if (terminalSearchToolTips && !foundMatchingItemStack) {
-            final List<String> tooltip = Platform.getTooltip(is);
-            for (final String line : tooltip) {
-                if (m.matcher(line).find()) {
+            for (final String line : text.getTooltip(is)) {
+                if (this.query.pattern.matcher(line).find()) {
                     foundMatchingItemStack = true;
                     break;
                 }
             }
         }
 
-        if (foundMatchingItemStack) {
-            if (needsZeroCopy) {
-                is = is.copy();
-                is.setStackSize(0);
-            }
-            this.view.add(is);
+        if (!foundMatchingItemStack) {
+            return null;
+        }
+
+        final IAEItemStack snapshot = is.copy();
+        if (viewMode == ViewItems.CRAFTABLE) {
+            snapshot.setStackSize(0);
         }
+        return snapshot;
     }
 
     private void updateJEI(String filter) {
@@ -268,6 +354,8 @@ public class ItemRepo {
 
     public void clear() {
         this.list.resetStatus();
+        this.searchText.clear();
+        this.resort = true;
     }
 
     public boolean hasPower() {
@@ -297,4 +385,64 @@ public class ItemRepo {
     public IItemList<IAEItemStack> getList() {
         return list;
     }
+
+    /**
+     * A search string split up into its terms, done once per query instead of once per item.
+     */
+    private static final class SearchQuery {
+
+        private final boolean searchMod;
+        private final String[] terms;
+        /**
+         * Matched against tooltips, null if the search string cannot be compiled at all, which hides every item.
+         */
+        private final Pattern pattern;
+
+        private SearchQuery(final boolean searchMod, final String[] terms, final Pattern pattern) {
+            this.searchMod = searchMod;
+            this.terms = terms;
+            this.pattern = pattern;
+        }
+
+        private static SearchQuery compile(final String searchString) {
+            String innerSearch = searchString.toLowerCase();
+            boolean searchMod = false;
+
+            if (innerSearch.startsWith("@")) {
+                searchMod = true;
+                innerSearch = innerSearch.substring(1);
+            }
+
+            Pattern m = null;
+            try {
+                m = Pattern.compile(innerSearch, Pattern.CASE_INSENSITIVE);
+            } catch (final Throwable ignore) {
+                try {
+                    m = Pattern.compile(Pattern.quote(innerSearch), Pattern.CASE_INSENSITIVE);
+                } catch (final Throwable ignored) {
+                }
+            }
+
+            return new SearchQuery(searchMod, innerSearch.split(" "), m);
+        }
+    }
+
+    private static final class SearchText {
+
+        private final String displayName;
+        private final String modId;
+        private List<String> tooltip;
+
+        private SearchText(final IAEItemStack is) {
+            this.displayName = Platform.getItemDisplayName(is).toLowerCase();
+            this.modId = Platform.getModId(is).toLowerCase();
+        }
+
+        private List<String> getTooltip(final IAEItemStack is) {
+            if (this.tooltip == null) {
+                this.tooltip = Platform.getTooltip(is);
+            }
+            return this.tooltip;
+        }
+    }
 }
@@ -22,8 +22,10 @@ import static appeng.helpers.ItemStackHelper.stackWriteToNBT;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -52,6 +54,7 @@ import appeng.helpers.IInterfaceHost;
 import appeng.helpers.InventoryAction;
 import appeng.helpers.WirelessTerminalGuiObject;
 import appeng.items.misc.ItemEncodedPattern;
+import appeng.me.cache.InterfaceTerminalCache;
 import appeng.parts.misc.PartInterface;
 import appeng.parts.reporting.PartInterfaceTerminal;
 import appeng.tile.inventory.AppEngInternalInventory;
@@ -76,6 +79,12 @@ public class ContainerInterfaceTerminal extends AEBaseContainer {
     private final Map<Long, InvTracker> byId = new HashMap<>();
     private IGrid grid;
     private NBTTagCompound data = new NBTTagCompound();
+    /**
+     * What was seen of the {@link InterfaceTerminalCache} when the list was last brought up to date.
+     */
+    private long membershipVersion = -1;
+    private long changeLogPosition = 0;
+    private boolean hostActive = false;
 
     public ContainerInterfaceTerminal(final InventoryPlayer ip, final PartInterfaceTerminal anchor) {
         super(ip, anchor);
@@ -115,73 +124,31 @@ public class ContainerInterfaceTerminal extends AEBaseContainer {
             return;
         }
 
-        int total = 0;
-        boolean missing = false;
+        final InterfaceTerminalCache cache = this.grid.getCache(InterfaceTerminalCache.class);
+        final boolean hostActive = this.isHostActive();
 
-        final IActionHost host = this.getActionHost();
-        if (host != null) {
-            final IGridNode agn = host.getActionableNode();
-            if (agn != null && agn.isActive()) {
-                for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
-                    if (gn.isActive()) {
-                        final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                        if (ih.getInterfaceDuality().getConfigManager()
-                                .getSetting(Settings.INTERFACE_TERMINAL) == YesNo.NO) {
-                            continue;
-                        }
-
-                        final InvTracker t = this.diList.get(ih);
-
-                        if (t == null) {
-                            missing = true;
-                        } else {
-                            final DualityInterface dual = ih.getInterfaceDuality();
-                            if (!t.unlocalizedName.equals(dual.getTermName())) {
-                                missing = true;
-                            }
-                        }
+        if (hostActive != this.hostActive || cache.getMembershipVersion() != this.membershipVersion) {
+            this.hostActive = hostActive;
+            this.membershipVersion = cache.getMembershipVersion();
+            this.regenList(this.data);
+        } else {
+            final Set<IInterfaceHost> changed = new HashSet<>();
 
-                        total++;
+            if (cache.getChangesSince(this.changeLogPosition, changed)) {
+                for (final IInterfaceHost ih : changed) {
+                    final InvTracker inv = this.diList.get(ih);
+                    if (inv != null) {
+                        this.updateSlots(inv);
                     }
                 }
-
-                for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
-                    if (gn.isActive()) {
-                        final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                        if (ih.getInterfaceDuality().getConfigManager()
-                                .getSetting(Settings.INTERFACE_TERMINAL) == YesNo.NO) {
-                            continue;
-                        }
-
-                        final InvTracker t = this.diList.get(ih);
-
-                        if (t == null) {
-                            missing = true;
-                        } else {
-                            final DualityInterface dual = ih.getInterfaceDuality();
-                            if (!t.unlocalizedName.equals(dual.getTermName())) {
-                                missing = true;
-                            }
-                        }
-
-                        total++;
-                    }
+            } else {
+                for (final InvTracker inv : this.diList.values()) {
+                    this.updateSlots(inv);
                 }
             }
         }
 
-        if (total != this.diList.size() || missing) {
-            this.regenList(this.data);
-        } else {
-            for (final Entry<IInterfaceHost, InvTracker> en : this.diList.entrySet()) {
-                final InvTracker inv = en.getValue();
-                for (int x = 0; x < inv.server.getSlots(); x++) {
-                    if (this.isDifferent(inv.server.getStackInSlot(x), inv.client.getStackInSlot(x))) {
-                        this.addItems(this.data, inv, x, 1);
-                    }
-                }
-            }
-        }
+        this.changeLogPosition = cache.getChangeLogEnd();
 
         if (!this.data.isEmpty()) {
             try {
@@ -329,28 +296,42 @@ public class ContainerInterfaceTerminal extends AEBaseContainer {
         }
     }
 
+    private boolean isHostActive() {
+        final IActionHost host = this.getActionHost();
+        if (host != null) {
+            final IGridNode agn = host.getActionableNode();
+            return agn != null && agn.isActive();
+        }
+
+        return false;
+    }
+
+    private void updateSlots(final InvTracker inv) {
+        for (int x = 0; x < inv.server.getSlots(); x++) {
+            if (this.isDifferent(inv.server.getStackInSlot(x), inv.client.getStackInSlot(x))) {
+                this.addItems(this.data, inv, x, 1);
+            }
+        }
+    }
+
     private void regenList(final NBTTagCompound data) {
         this.byId.clear();
         this.diList.clear();
 
-        final IActionHost host = this.getActionHost();
-        if (host != null) {
-            final IGridNode agn = host.getActionableNode();
-            if (agn != null && agn.isActive()) {
-                for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
-                    final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                    final DualityInterface dual = ih.getInterfaceDuality();
-                    if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
-                        this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
-                    }
+        if (this.hostActive) {
+            for (final IGridNode gn : this.grid.getMachines(TileInterface.class)) {
+                final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
+                final DualityInterface dual = ih.getInterfaceDuality();
+                if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
+                    this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
                 }
+            }
 
-                for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
-                    final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
-                    final DualityInterface dual = ih.getInterfaceDuality();
-                    if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
-                        this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
-                    }
+            for (final IGridNode gn : this.grid.getMachines(PartInterface.class)) {
+                final IInterfaceHost ih = (IInterfaceHost) gn.getMachine();
+                final DualityInterface dual = ih.getInterfaceDuality();
+                if (gn.isActive() && dual.getConfigManager().getSetting(Settings.INTERFACE_TERMINAL) == YesNo.YES) {
+                    this.diList.put(ih, new InvTracker(dual, dual.getPatterns(), dual.getTermName()));
                 }
             }
         }
@@ -20,7 +20,10 @@ package appeng.container.implementations;
 
 import java.io.IOException;
 import java.nio.BufferOverflowException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nonnull;
 
@@ -72,6 +75,7 @@ import appeng.me.helpers.ChannelPowerSrc;
 import appeng.util.ConfigManager;
 import appeng.util.IConfigManagerHost;
 import appeng.util.Platform;
+import appeng.util.item.AEItemStackDictionary;
 
 public class ContainerMEMonitorable extends AEBaseContainer
         implements IConfigManagerHost, IConfigurableObject, IMEMonitorHandlerReceiver<IAEItemStack> {
@@ -81,6 +85,11 @@ public class ContainerMEMonitorable extends AEBaseContainer
     public final IItemList<IAEItemStack> items = StorageChannels.items().createList();
     private final IConfigManager clientCM;
     private final ITerminalHost host;
+    /**
+     * The item ids known to each player watching this container, only used on the server.
+     */
+    private final Map<IContainerListener, AEItemStackDictionary> dictionaries = new IdentityHashMap<>();
+    private final AEItemStackDictionary clientDictionary = new AEItemStackDictionary();
     @GuiSync(99)
     public boolean canAccessViewCells = false;
     @GuiSync(98)
@@ -250,27 +259,34 @@ public class ContainerMEMonitorable extends AEBaseContainer
             if (!this.items.isEmpty()) {
                 try {
                     final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
-
-                    final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+                    final List<IAEItemStack> updates = new ArrayList<>();
 
                     for (final IAEItemStack is : this.items) {
                         final IAEItemStack send = monitorCache.findPrecise(is);
                         if (send == null) {
                             is.setStackSize(0);
-                            piu.appendItem(is);
+                            updates.add(is);
                         } else {
-                            piu.appendItem(send);
+                            updates.add(send);
                         }
                     }
 
-                    if (!piu.isEmpty()) {
-                        this.items.resetStatus();
+                    if (!updates.isEmpty()) {
+                        // every player gets their own packet, the item ids differ between them.
+                        for (final IContainerListener c : this.listeners) {
+                            if (c instanceof EntityPlayerMP) {
+                                final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate(this,
+                                        this.getItemDictionary(c));
+
+                                for (final IAEItemStack is : updates) {
+                                    piu.appendItem(is);
+                                }
 
-                        for (final Object c : this.listeners) {
-                            if (c instanceof EntityPlayer) {
                                 NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
                             }
                         }
+
+                        this.items.resetStatus();
                     }
                 } catch (final IOException e) {
                     AELog.debug(e);
@@ -326,13 +342,15 @@ public class ContainerMEMonitorable extends AEBaseContainer
     public void addListener(final IContainerListener c) {
         super.addListener(c);
 
+        this.dictionaries.put(c, new AEItemStackDictionary());
         this.queueInventory(c);
     }
 
     private void queueInventory(final IContainerListener c) {
         if (Platform.isServer() && c instanceof EntityPlayer && this.monitor != null) {
             try {
-                PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+                final AEItemStackDictionary dictionary = this.getItemDictionary(c);
+                PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate(this, dictionary);
                 final IItemList<IAEItemStack> monitorCache = this.monitor.getStorageList();
 
                 for (final IAEItemStack send : monitorCache) {
@@ -341,7 +359,7 @@ public class ContainerMEMonitorable extends AEBaseContainer
                     } catch (final BufferOverflowException boe) {
                         NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
 
-                        piu = new PacketMEInventoryUpdate();
+                        piu = new PacketMEInventoryUpdate(this, dictionary);
                         piu.appendItem(send);
                     }
                 }
@@ -356,6 +374,7 @@ public class ContainerMEMonitorable extends AEBaseContainer
     @Override
     public void removeListener(final IContainerListener c) {
         super.removeListener(c);
+        this.dictionaries.remove(c);
 
         if (this.listeners.isEmpty() && this.monitor != null) {
             this.monitor.removeListener(this);
@@ -439,6 +458,17 @@ public class ContainerMEMonitorable extends AEBaseContainer
         return items;
     }
 
+    private AEItemStackDictionary getItemDictionary(final IContainerListener c) {
+        return this.dictionaries.computeIfAbsent(c, l -> new AEItemStackDictionary());
+    }
+
+    /**
+     * @return the item ids received by this client
+     */
+    public AEItemStackDictionary getItemDictionary() {
+        return this.clientDictionary;
+    }
+
     public void postUpdate(final List<IAEItemStack> list) {
         for (final IAEItemStack is : list) {
             this.items.add(is);
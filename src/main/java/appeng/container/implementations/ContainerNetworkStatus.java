@@ -19,11 +19,14 @@
 package appeng.container.implementations;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
-import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.entity.player.InventoryPlayer;
+import net.minecraft.inventory.IContainerListener;
 import net.minecraft.item.ItemStack;
 
 import appeng.api.implementations.guiobjects.INetworkTool;
@@ -43,6 +46,7 @@ import appeng.core.sync.network.NetworkHandler;
 import appeng.core.sync.packets.PacketMEInventoryUpdate;
 import appeng.util.Platform;
 import appeng.util.item.AEItemStack;
+import appeng.util.item.AEItemStackDictionary;
 
 public class ContainerNetworkStatus extends AEBaseContainer {
 
@@ -57,6 +61,11 @@ public class ContainerNetworkStatus extends AEBaseContainer {
     private IGrid network;
     private int delay = 40;
     private GuiNetworkStatus guiNetworkStatus;
+    /**
+     * The item ids known to each player watching this container, only used on the server.
+     */
+    private final Map<IContainerListener, AEItemStackDictionary> dictionaries = new IdentityHashMap<>();
+    private final AEItemStackDictionary clientDictionary = new AEItemStackDictionary();
 
     public ContainerNetworkStatus(final InventoryPlayer ip, final INetworkTool te) {
         super(ip, null, null);
@@ -98,7 +107,7 @@ public class ContainerNetworkStatus extends AEBaseContainer {
             }
 
             try {
-                final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate();
+                final List<IAEItemStack> machines = new ArrayList<>();
 
                 for (final Class<? extends IGridHost> machineClass : this.network.getMachinesClasses()) {
                     final IItemList<IAEItemStack> list = StorageChannels.items().createList();
@@ -114,12 +123,20 @@ public class ContainerNetworkStatus extends AEBaseContainer {
                     }
 
                     for (final IAEItemStack ais : list) {
-                        piu.appendItem(ais);
+                        machines.add(ais);
                     }
                 }
 
-                for (final Object c : this.listeners) {
-                    if (c instanceof EntityPlayer) {
+                // every player gets their own packet, the item ids differ between them.
+                for (final IContainerListener c : this.listeners) {
+                    if (c instanceof EntityPlayerMP) {
+                        final PacketMEInventoryUpdate piu = new PacketMEInventoryUpdate(this,
+                                this.dictionaries.computeIfAbsent(c, l -> new AEItemStackDictionary()));
+
+                        for (final IAEItemStack ais : machines) {
+                            piu.appendItem(ais);
+                        }
+
                         NetworkHandler.instance().sendTo(piu, (EntityPlayerMP) c);
                     }
                 }
@@ -162,6 +179,19 @@ public class ContainerNetworkStatus extends AEBaseContainer {
         this.powerUsage = powerUsage;
     }
 
+    @Override
+    public void removeListener(final IContainerListener c) {
+        super.removeListener(c);
+        this.dictionaries.remove(c);
+    }
+
+    /**
+     * @return the item ids received by this client
+     */
+    public AEItemStackDictionary getItemDictionary() {
+        return this.clientDictionary;
+    }
+
     public void postUpdate(final List<IAEItemStack> list) {
         this.guiNetworkStatus.postUpdate(list);
     }
@@ -10,6 +10,7 @@ import appeng.api.parts.IPart;
 import appeng.client.gui.widgets.MEGuiTextField;
 import appeng.container.AEBaseContainer;
 import appeng.helpers.ICustomNameObject;
+import appeng.helpers.IInterfaceHost;
 import appeng.util.Platform;
 
 public class ContainerRenamer extends AEBaseContainer {
@@ -33,6 +34,9 @@ public class ContainerRenamer extends AEBaseContainer {
     public void setNewName(String newValue) {
         this.namedObject.setCustomName(newValue);
 
+        if (this.namedObject instanceof IInterfaceHost interfaceHost) {
+            interfaceHost.getInterfaceDuality().onTerminalEntryChanged();
+        }
     }
 
     @Override
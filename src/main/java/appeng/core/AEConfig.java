@@ -109,6 +109,7 @@ public final class AEConfig extends Configuration implements IConfigurableObject
     private boolean useColoredCraftingStatus;
     private boolean disableColoredCableRecipesInJEI = true;
     private int craftingCalculationTimePerTick = 5;
+    private int craftingCalculationThreads = 4;
     private PowerUnits selectedPowerUnit = PowerUnits.AE;
     private boolean showCraftableTooltip = true;
     private boolean showPlacementPreview = true;
@@ -336,6 +337,9 @@ public final class AEConfig extends Configuration implements IConfigurableObject
             this.craftingCalculationTimePerTick = this
                     .get("craftingCPU", "craftingCalculationTimePerTick", this.craftingCalculationTimePerTick)
                     .getInt(this.craftingCalculationTimePerTick);
+            this.craftingCalculationThreads = Math.max(1, this
+                    .get("craftingCPU", "craftingCalculationThreads", this.craftingCalculationThreads)
+                    .getInt(this.craftingCalculationThreads));
         }
 
         this.updatable = true;
@@ -645,6 +649,10 @@ public final class AEConfig extends Configuration implements IConfigurableObject
         return this.craftingCalculationTimePerTick;
     }
 
+    public int getCraftingCalculationThreads() {
+        return this.craftingCalculationThreads;
+    }
+
     public PowerUnits getSelectedPowerUnit() {
         return this.selectedPowerUnit;
     }
@@ -111,6 +111,7 @@ import appeng.recipes.ores.OreDictionaryHandler;
 import appeng.spatial.BiomeGenStorage;
 import appeng.spatial.StorageWorldProvider;
 import appeng.tile.AEBaseTile;
+import appeng.util.item.OreHelper;
 import appeng.worldgen.MeteoriteWorldGen;
 import appeng.worldgen.QuartzWorldGen;
 
@@ -128,6 +129,7 @@ final class Registration {
         this.registerCraftHandlers(recipeRegistry);
 
         MinecraftForge.EVENT_BUS.register(OreDictionaryHandler.INSTANCE);
+        MinecraftForge.EVENT_BUS.register(OreHelper.INSTANCE);
 
         ApiDefinitions definitions = api.definitions();
 
@@ -212,6 +214,7 @@ final class Registration {
         gcr.registerGridCache(ISpatialCache.class, SpatialPylonCache.class);
         gcr.registerGridCache(ISecurityGrid.class, SecurityCache.class);
         gcr.registerGridCache(ICraftingGrid.class, CraftingGridCache.class);
+        gcr.registerGridCache(InterfaceTerminalCache.class, InterfaceTerminalCache.class);
 
         StorageCells.addCellHandler(new BasicCellHandler());
         StorageCells.addCellHandler(new CreativeCellHandler());
@@ -24,6 +24,7 @@ import javax.annotation.Nonnull;
 
 import com.google.common.base.Preconditions;
 
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 
 import appeng.api.features.IInscriberRecipe;
@@ -40,6 +41,8 @@ public final class InscriberRegistry implements IInscriberRegistry {
     private final Set<IInscriberRecipe> recipes;
     private final Set<ItemStack> optionals;
     private final Set<ItemStack> inputs;
+    // recipes by the item and damage of their middle inputs, rebuilt on first use after the recipes changed.
+    private volatile Map<InputKey, List<IInscriberRecipe>> index = null;
 
     public InscriberRegistry() {
         this.inputs = new HashSet<>();
@@ -65,6 +68,32 @@ public final class InscriberRegistry implements IInscriberRegistry {
         return this.inputs;
     }
 
+    @Nonnull
+    @Override
+    public Collection<IInscriberRecipe> getRecipesFor(@Nonnull final ItemStack input) {
+        Map<InputKey, List<IInscriberRecipe>> index = this.index;
+
+        if (index == null) {
+            index = new HashMap<>();
+
+            for (final IInscriberRecipe recipe : this.recipes) {
+                for (final ItemStack option : recipe.getInputs()) {
+                    final List<IInscriberRecipe> list = index.computeIfAbsent(InputKey.of(option),
+                            k -> new ArrayList<>());
+
+                    // the same item can be listed more than once.
+                    if (!list.contains(recipe)) {
+                        list.add(recipe);
+                    }
+                }
+            }
+
+            this.index = index;
+        }
+
+        return index.getOrDefault(InputKey.of(input), Collections.emptyList());
+    }
+
     @Nonnull
     @Override
     public IInscriberRecipeBuilder builder() {
@@ -79,6 +108,7 @@ public final class InscriberRegistry implements IInscriberRegistry {
             this.optionals.addAll(recipe.getTopInputs());
             this.optionals.addAll(recipe.getBottomInputs());
             this.inputs.addAll(recipe.getInputs());
+            this.index = null;
 
             return true;
         }
@@ -100,9 +130,20 @@ public final class InscriberRegistry implements IInscriberRegistry {
             }
         }
 
+        if (changed) {
+            this.index = null;
+        }
+
         return changed;
     }
 
+    private record InputKey(Item item, int damage) {
+
+        private static InputKey of(final ItemStack stack) {
+            return new InputKey(stack.getItem(), stack.getItemDamage());
+        }
+    }
+
     /**
      * Internal {@link IInscriberRecipeBuilder} implementation. Needs to be adapted to represent a correct
      * {@link IInscriberRecipe}
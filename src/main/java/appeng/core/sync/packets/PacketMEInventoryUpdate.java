@@ -19,13 +19,12 @@
 package appeng.core.sync.packets;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.BufferOverflowException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
 
 import javax.annotation.Nullable;
 
@@ -34,6 +33,9 @@ import io.netty.buffer.Unpooled;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.Container;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
@@ -47,64 +49,103 @@ import appeng.core.AELog;
 import appeng.core.sync.AppEngPacket;
 import appeng.core.sync.network.INetworkInfo;
 import appeng.util.item.AEItemStack;
+import appeng.util.item.AEItemStackDictionary;
 
+/**
+ * Sends item stacks to a terminal like container.
+ *
+ * Each entry is a flag byte, an optional dictionary id, an optional item definition and the amounts as varints. Packets
+ * created with an {@link AEItemStackDictionary} only carry the definition of an item the first time it is sent to the
+ * container, later updates refer to it by id. The entries are deflated in one go when the packet is sent.
+ */
 public class PacketMEInventoryUpdate extends AppEngPacket {
     private static final int UNCOMPRESSED_PACKET_BYTE_LIMIT = 16 * 1024 * 1024;
     private static final int OPERATION_BYTE_LIMIT = 2 * 1024;
     private static final int TEMP_BUFFER_SIZE = 1024;
-    private static final int STREAM_MASK = 0xff;
+    private static final int NO_DICTIONARY = -1;
+
+    private static final byte FLAG_ID = 1;
+    private static final byte FLAG_DEFINITION = 1 << 1;
+    private static final byte FLAG_CRAFTABLE = 1 << 2;
+
+    // the compressor is reused for every packet written or read on the same thread.
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
 
     // input.
     @Nullable
-    private final List<IAEItemStack> list;
+    private final List<Entry> entries;
     // output...
     private final byte ref;
+    /**
+     * The container the dictionary ids belong to, or {@link #NO_DICTIONARY} if every entry carries its definition.
+     */
+    private final int windowId;
 
     @Nullable
     private final ByteBuf data;
     @Nullable
-    private final GZIPOutputStream compressFrame;
+    private final PacketBuffer payload;
+    @Nullable
+    private final AEItemStackDictionary dictionary;
 
-    private int writtenBytes = 0;
+    private boolean compressed = false;
     private boolean empty = true;
 
     // automatic.
     public PacketMEInventoryUpdate(final ByteBuf stream) throws IOException {
         this.data = null;
-        this.compressFrame = null;
-        this.list = new ArrayList<>();
+        this.payload = null;
+        this.dictionary = null;
+        this.entries = new ArrayList<>();
         this.ref = stream.readByte();
+        this.windowId = stream.readInt();
 
-        // int originalBytes = stream.readableBytes();
+        final byte[] input = new byte[stream.readableBytes()];
+        stream.readBytes(input);
 
-        try (GZIPInputStream gzReader = new GZIPInputStream(new InputStream() {
-            @Override
-            public int read() throws IOException {
-                if (stream.readableBytes() <= 0) {
-                    return -1;
-                }
+        final Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(input);
 
-                return stream.readByte() & STREAM_MASK;
-            }
-        })) {
-            final ByteBuf uncompressed = Unpooled.buffer(stream.readableBytes());
-            final byte[] tmp = new byte[TEMP_BUFFER_SIZE];
+        final ByteBuf uncompressed = Unpooled.buffer(input.length * 4);
+        final byte[] tmp = new byte[TEMP_BUFFER_SIZE];
 
-            while (gzReader.available() != 0) {
-                final int bytes = gzReader.read(tmp);
+        try {
+            while (!inflater.finished()) {
+                final int bytes = inflater.inflate(tmp);
 
-                if (bytes > 0) {
-                    uncompressed.writeBytes(tmp, 0, bytes);
+                if (bytes == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Truncated inventory update");
+                }
+
+                if (uncompressed.readableBytes() + bytes > UNCOMPRESSED_PACKET_BYTE_LIMIT) {
+                    throw new IOException("Inventory update exceeds " + UNCOMPRESSED_PACKET_BYTE_LIMIT + " bytes");
                 }
-            }
 
-            while (uncompressed.readableBytes() > 0) {
-                this.list.add(AEItemStack.fromPacket(uncompressed));
+                uncompressed.writeBytes(tmp, 0, bytes);
             }
+        } catch (final DataFormatException e) {
+            throw new IOException(e);
         }
 
-        this.empty = this.list.isEmpty();
+        final PacketBuffer in = new PacketBuffer(uncompressed);
+        while (in.readableBytes() > 0) {
+            final byte flags = in.readByte();
+            final int id = (flags & FLAG_ID) != 0 ? in.readVarInt() : -1;
+
+            IAEItemStack definition = null;
+            if ((flags & FLAG_DEFINITION) != 0) {
+                final NBTTagCompound tag = in.readCompoundTag();
+                definition = tag == null ? null : AEItemStack.fromItemStack(new ItemStack(tag));
+            }
+
+            final long stackSize = in.readVarLong();
+            final long countRequestable = in.readVarLong();
+            this.entries.add(new Entry(id, definition, stackSize, countRequestable, (flags & FLAG_CRAFTABLE) != 0));
+        }
 
+        this.empty = this.entries.isEmpty();
     }
 
     // api
@@ -114,19 +155,29 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
 
     // api
     public PacketMEInventoryUpdate(final byte ref) throws IOException {
+        this(ref, NO_DICTIONARY, null);
+    }
+
+    /**
+     * Creates an update for a single player's view of the container, using the dictionary kept for that player.
+     */
+    public PacketMEInventoryUpdate(final Container container, final AEItemStackDictionary dictionary)
+            throws IOException {
+        this((byte) 0, container.windowId, dictionary);
+    }
+
+    private PacketMEInventoryUpdate(final byte ref, final int windowId,
+            @Nullable final AEItemStackDictionary dictionary) {
         this.ref = ref;
+        this.windowId = windowId;
+        this.dictionary = dictionary;
         this.data = Unpooled.buffer(OPERATION_BYTE_LIMIT);
         this.data.writeInt(this.getPacketID());
         this.data.writeByte(this.ref);
+        this.data.writeInt(this.windowId);
+        this.payload = new PacketBuffer(Unpooled.buffer(OPERATION_BYTE_LIMIT));
 
-        this.compressFrame = new GZIPOutputStream(new OutputStream() {
-            @Override
-            public void write(final int value) throws IOException {
-                PacketMEInventoryUpdate.this.data.writeByte(value);
-            }
-        });
-
-        this.list = null;
+        this.entries = null;
     }
 
     @Override
@@ -134,57 +185,145 @@ public class PacketMEInventoryUpdate extends AppEngPacket {
     public void clientPacketData(final INetworkInfo network, final AppEngPacket packet, final EntityPlayer player) {
         final Container c = player.openContainer;
 
+        AEItemStackDictionary dictionary = null;
+        if (this.windowId != NO_DICTIONARY) {
+            // the ids belong to a container that was closed in the meantime.
+            if (c.windowId != this.windowId) {
+                return;
+            }
+
+            if (c instanceof ContainerMEMonitorable) {
+                dictionary = ((ContainerMEMonitorable) c).getItemDictionary();
+            } else if (c instanceof ContainerNetworkStatus) {
+                dictionary = ((ContainerNetworkStatus) c).getItemDictionary();
+            } else {
+                return;
+            }
+        }
+
+        final List<IAEItemStack> list = this.resolve(dictionary);
+
         if (c instanceof ContainerCraftConfirm) {
-            ((ContainerCraftConfirm) c).postUpdate(this.list, this.ref);
+            ((ContainerCraftConfirm) c).postUpdate(list, this.ref);
         }
 
         if (c instanceof ContainerCraftingCPU) {
-            ((ContainerCraftingCPU) c).postUpdate(this.list, this.ref);
+            ((ContainerCraftingCPU) c).postUpdate(list, this.ref);
         }
 
         if (c instanceof ContainerMEMonitorable) {
-            ((ContainerMEMonitorable) c).postUpdate(this.list);
+            ((ContainerMEMonitorable) c).postUpdate(list);
         }
 
         if (c instanceof ContainerNetworkStatus) {
-            ((ContainerNetworkStatus) c).postUpdate(this.list);
+            ((ContainerNetworkStatus) c).postUpdate(list);
         }
     }
 
-    @Nullable
+    private List<IAEItemStack> resolve(@Nullable final AEItemStackDictionary dictionary) {
+        final List<IAEItemStack> list = new ArrayList<>(this.entries.size());
+
+        for (final Entry entry : this.entries) {
+            IAEItemStack is = entry.definition;
+
+            if (dictionary != null && entry.id >= 0) {
+                if (is != null) {
+                    dictionary.define(entry.id, is);
+                } else {
+                    is = dictionary.get(entry.id);
+                }
+            }
+
+            if (is == null) {
+                AELog.debug("Received an inventory update for an unknown item " + entry.id);
+                continue;
+            }
+
+            is = is.copy();
+            is.setStackSize(entry.stackSize);
+            is.setCountRequestable(entry.countRequestable);
+            is.setCraftable(entry.craftable);
+            list.add(is);
+        }
+
+        return list;
+    }
+
     @Override
     public FMLProxyPacket getProxy() {
-        try {
-            this.compressFrame.close();
-
+        // the same packet can be sent to several players.
+        if (!this.compressed) {
+            this.compressed = true;
+            this.compress();
             this.configureWrite(this.data);
-            return super.getProxy();
-        } catch (final IOException e) {
-            AELog.debug(e);
         }
 
-        return null;
+        return super.getProxy();
+    }
+
+    private void compress() {
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(this.payload.array(), this.payload.arrayOffset() + this.payload.readerIndex(),
+                this.payload.readableBytes());
+        deflater.finish();
+
+        final byte[] tmp = new byte[TEMP_BUFFER_SIZE];
+        while (!deflater.finished()) {
+            final int bytes = deflater.deflate(tmp);
+            this.data.writeBytes(tmp, 0, bytes);
+        }
     }
 
     public void appendItem(final IAEItemStack is) throws IOException, BufferOverflowException {
-        final ByteBuf tmp = Unpooled.buffer(OPERATION_BYTE_LIMIT);
-        is.writeToPacket(tmp);
+        final int start = this.payload.writerIndex();
+
+        int id = this.dictionary == null ? -1 : this.dictionary.getId(is);
+        final boolean define = id < 0;
+
+        byte flags = is.isCraftable() ? FLAG_CRAFTABLE : 0;
+        if (define) {
+            flags |= FLAG_DEFINITION;
+        }
+        if (this.dictionary != null) {
+            flags |= FLAG_ID;
+            if (define) {
+                id = this.dictionary.nextId();
+            }
+        }
+
+        this.payload.writeByte(flags);
+        if (this.dictionary != null) {
+            this.payload.writeVarInt(id);
+        }
+        if (define) {
+            this.payload.writeCompoundTag(is.getDefinition().serializeNBT());
+        }
+        this.payload.writeVarLong(is.getStackSize());
+        this.payload.writeVarLong(is.getCountRequestable());
 
-        this.compressFrame.flush();
-        if (this.writtenBytes + tmp.readableBytes() > UNCOMPRESSED_PACKET_BYTE_LIMIT) {
+        if (this.payload.readableBytes() > UNCOMPRESSED_PACKET_BYTE_LIMIT) {
+            this.payload.writerIndex(start);
             throw new BufferOverflowException();
-        } else {
-            this.writtenBytes += tmp.readableBytes();
-            this.compressFrame.write(tmp.array(), 0, tmp.readableBytes());
-            this.empty = false;
         }
+
+        // only now the item is certain to reach the client.
+        if (this.dictionary != null && define) {
+            this.dictionary.register(is);
+        }
+
+        this.empty = false;
     }
 
     public int getLength() {
-        return this.data.readableBytes();
+        return this.data.readableBytes() + this.payload.readableBytes();
     }
 
     public boolean isEmpty() {
         return this.empty;
     }
+
+    private record Entry(int id, @Nullable IAEItemStack definition, long stackSize, long countRequestable,
+            boolean craftable) {
+    }
 }
@@ -0,0 +1,297 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.crafting.ICraftingJob;
+import appeng.api.networking.security.IActionHost;
+import appeng.api.networking.security.IActionSource;
+import appeng.api.storage.data.IAEItemStack;
+
+/**
+ * Runs crafting calculations on a fixed number of threads.
+ *
+ * Waiting jobs are queued per grid and started round-robin, so a single grid with many requesters cannot starve the
+ * others. A calculation that pauses until the next tick is in the middle of walking its crafting tree, so it keeps its
+ * thread until it is done. Requests from machines for the same item and amount on the same grid share one in-flight
+ * calculation. The per tick CPU budget is still enforced by the tick handler through
+ * {@link CraftingJob#simulateFor(int)}.
+ */
+public final class CraftingCalculationScheduler {
+
+    private final ExecutorService workers;
+    private final int maxRunning;
+    private int running = 0;
+
+    private final LinkedHashMap<IGrid, ArrayDeque<Task>> waiting = new LinkedHashMap<>();
+    private final Map<IGrid, List<Task>> active = new HashMap<>();
+    private final Map<JobKey, Task> shared = new HashMap<>();
+
+    public CraftingCalculationScheduler(final int maxRunning) {
+        final ThreadFactory factory = ar -> {
+            final Thread crafting = new Thread(ar, "AE Crafting Calculator");
+            crafting.setDaemon(true);
+            return crafting;
+        };
+
+        this.maxRunning = maxRunning;
+        // jobs are only handed over when a thread is free, the pool never queues them itself.
+        this.workers = Executors.newFixedThreadPool(maxRunning, factory);
+    }
+
+    /**
+     * @return a handle on an identical calculation that is still in flight, or null if there is none.
+     */
+    public synchronized Future<ICraftingJob> join(final IGrid grid, final IAEItemStack what,
+            final IActionSource src) {
+        final Task task = this.shared.get(JobKey.of(grid, what));
+
+        if (task == null || task.isDone()) {
+            return null;
+        }
+
+        return task.subscribe(src);
+    }
+
+    /**
+     * Queues a calculation.
+     *
+     * @param src       the requester, the calculation is canceled once all of its requesters are gone
+     * @param shareable if later identical requests may reuse this calculation, see
+     *                  {@link #join(IGrid, IAEItemStack, IActionSource)}
+     */
+    public synchronized Future<ICraftingJob> submit(final IGrid grid, final CraftingJob job, final IActionSource src,
+            final boolean shareable) {
+        final IAEItemStack what = job.getOutput().copy();
+        final JobKey key = shareable ? JobKey.of(grid, what) : null;
+        final Task task = new Task(grid, job, key);
+
+        if (key != null) {
+            this.shared.put(key, task);
+        }
+
+        this.waiting.computeIfAbsent(grid, g -> new ArrayDeque<>()).add(task);
+        this.active.computeIfAbsent(grid, g -> new ArrayList<>()).add(task);
+
+        final Future<ICraftingJob> handle = task.subscribe(src);
+        this.dispatch();
+        return handle;
+    }
+
+    /**
+     * Cancels every calculation on the grid that was requested by the node. Calculations shared with other
+     * requesters keep running until their last requester is gone.
+     */
+    public synchronized void cancelFor(final IGrid grid, final IGridNode requester) {
+        final List<Task> tasks = this.active.get(grid);
+
+        if (tasks == null) {
+            return;
+        }
+
+        for (final Task task : new ArrayList<>(tasks)) {
+            task.unsubscribe(requester);
+        }
+    }
+
+    private void dispatch() {
+        while (this.running < this.maxRunning) {
+            final Task next = this.pollNext();
+
+            if (next == null) {
+                return;
+            }
+
+            if (next.isCancelled()) {
+                continue;
+            }
+
+            this.running++;
+            this.workers.execute(() -> {
+                try {
+                    next.run();
+                } finally {
+                    this.onWorkerDone();
+                }
+            });
+        }
+    }
+
+    private Task pollNext() {
+        final Iterator<Map.Entry<IGrid, ArrayDeque<Task>>> it = this.waiting.entrySet().iterator();
+
+        if (!it.hasNext()) {
+            return null;
+        }
+
+        final Map.Entry<IGrid, ArrayDeque<Task>> first = it.next();
+        final Task next = first.getValue().poll();
+
+        // move the grid to the back of the line, so the next free worker goes to another grid.
+        it.remove();
+        if (!first.getValue().isEmpty()) {
+            this.waiting.put(first.getKey(), first.getValue());
+        }
+
+        return next;
+    }
+
+    private synchronized void onWorkerDone() {
+        this.running--;
+        this.dispatch();
+    }
+
+    private synchronized void onTaskDone(final Task task) {
+        if (task.key != null) {
+            this.shared.remove(task.key, task);
+        }
+
+        final List<Task> tasks = this.active.get(task.grid);
+        if (tasks != null) {
+            tasks.remove(task);
+
+            if (tasks.isEmpty()) {
+                this.active.remove(task.grid);
+            }
+        }
+    }
+
+    private record JobKey(IGrid grid, IAEItemStack what, long amount) {
+
+        private static JobKey of(final IGrid grid, final IAEItemStack what) {
+            return new JobKey(grid, what, what.getStackSize());
+        }
+    }
+
+    private final class Task extends FutureTask<ICraftingJob> {
+
+        private final IGrid grid;
+        private final JobKey key;
+        private final List<Handle> handles = new ArrayList<>();
+
+        private Task(final IGrid grid, final CraftingJob job, final JobKey key) {
+            super(job, job);
+            this.grid = grid;
+            this.key = key;
+        }
+
+        private Handle subscribe(final IActionSource src) {
+            final IGridNode requester = src.machine().map(IActionHost::getActionableNode).orElse(null);
+            final Handle handle = new Handle(this, requester);
+            this.handles.add(handle);
+            return handle;
+        }
+
+        private void unsubscribe(final IGridNode requester) {
+            for (final Handle handle : new ArrayList<>(this.handles)) {
+                if (handle.requester == requester) {
+                    handle.cancel(true);
+                }
+            }
+        }
+
+        private void release(final Handle handle, final boolean mayInterruptIfRunning) {
+            synchronized (CraftingCalculationScheduler.this) {
+                this.handles.remove(handle);
+
+                if (this.handles.isEmpty()) {
+                    this.cancel(mayInterruptIfRunning);
+                }
+            }
+        }
+
+        @Override
+        protected void done() {
+            CraftingCalculationScheduler.this.onTaskDone(this);
+        }
+    }
+
+    /**
+     * What a requester holds on to. Cancelling it only drops this requesters interest in the calculation.
+     */
+    private static final class Handle implements Future<ICraftingJob> {
+
+        private final Task task;
+        private final IGridNode requester;
+        private volatile boolean cancelled = false;
+
+        private Handle(final Task task, final IGridNode requester) {
+            this.task = task;
+            this.requester = requester;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            if (this.cancelled || this.task.isDone()) {
+                return false;
+            }
+
+            this.cancelled = true;
+            this.task.release(this, mayInterruptIfRunning);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled || this.task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return this.cancelled || this.task.isDone();
+        }
+
+        @Override
+        public ICraftingJob get() throws InterruptedException, ExecutionException {
+            if (this.cancelled) {
+                throw new CancellationException();
+            }
+
+            return this.task.get();
+        }
+
+        @Override
+        public ICraftingJob get(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (this.cancelled) {
+                throw new CancellationException();
+            }
+
+            return this.task.get(timeout, unit);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package appeng.crafting;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -26,6 +27,9 @@ import com.google.common.base.Stopwatch;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.world.World;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+
 import appeng.api.config.Actionable;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridHost;
@@ -55,6 +59,10 @@ public class CraftingJob implements Runnable, ICraftingJob {
     private final IItemList<IAEItemStack> missing = StorageChannels.items().createList();
 
     private final HashMap<String, TwoIntegers> opsAndMultiplier = new HashMap<>();
+    // smallest batch size that could not be made, per requested item and pattern.
+    private final Object2LongMap<BatchKey> failedBatches = new Object2LongOpenHashMap<>();
+    private final ArrayDeque<MECraftingInventory> attempts = new ArrayDeque<>();
+    private final ArrayDeque<CraftingTreeSnapshot> undo = new ArrayDeque<>();
     private final Object monitor = new Object();
     private final Stopwatch tickSpreadingWatch = Stopwatch.createUnstarted();
     private final Stopwatch craftingTreeWatch = Stopwatch.createUnstarted();
@@ -110,6 +118,60 @@ public class CraftingJob implements Runnable, ICraftingJob {
         return this.availableCheck.extractItems(available, Actionable.SIMULATE, this.actionSrc);
     }
 
+    /**
+     * Starts a speculative request, usage checks and changes to the tree are recorded separately until
+     * {@link #endAttempt(boolean)}.
+     */
+    void beginAttempt() {
+        this.attempts.push(this.availableCheck);
+        this.availableCheck = new MECraftingInventory(this.availableCheck, true, true, false);
+        this.undo.push(new CraftingTreeSnapshot());
+    }
+
+    void endAttempt(final boolean keep) {
+        final MECraftingInventory attempt = this.availableCheck;
+        this.availableCheck = this.attempts.pop();
+        final CraftingTreeSnapshot changes = this.undo.pop();
+
+        if (keep) {
+            attempt.commit(this.actionSrc);
+
+            if (!this.undo.isEmpty()) {
+                changes.mergeInto(this.undo.peek());
+            }
+        } else {
+            changes.restore();
+        }
+    }
+
+    /**
+     * Called before a node changes its state, so a speculative request can undo it.
+     */
+    void touch(final CraftingTreeNode node) {
+        if (!this.undo.isEmpty()) {
+            this.undo.peek().touch(node);
+        }
+    }
+
+    void touch(final CraftingTreeProcess process) {
+        if (!this.undo.isEmpty()) {
+            this.undo.peek().touch(process);
+        }
+    }
+
+    /**
+     * @return the largest batch that is still worth trying, half of the smallest batch that failed so far.
+     */
+    long getBatchLimit(final IAEItemStack what, final ICraftingPatternDetails details) {
+        final long failed = this.failedBatches.getOrDefault(new BatchKey(what, details), Long.MAX_VALUE);
+        return failed == Long.MAX_VALUE ? failed : failed / 2;
+    }
+
+    void addFailedBatch(final IAEItemStack what, final ICraftingPatternDetails details, final long times) {
+        final BatchKey key = new BatchKey(what.copy(), details);
+        this.failedBatches.put(key, Math.min(times, this.failedBatches.getOrDefault(key, Long.MAX_VALUE)));
+    }
+
     void addTask(IAEItemStack what, final long crafts, final ICraftingPatternDetails details, final int depth) {
         if (crafts > 0) {
             what = what.copy();
@@ -201,6 +263,8 @@ public class CraftingJob implements Runnable, ICraftingJob {
     void handlePausing() throws InterruptedException {
         if (!this.actionSrc.player().isPresent() && this.incTime > 100) {
             this.incTime = 0;
+            boolean sleep;
+
             synchronized (this.monitor) {
                 if (this.tickSpreadingWatch.elapsed(TimeUnit.MICROSECONDS) > this.time) {
                     this.running = false;
@@ -215,15 +279,19 @@ public class CraftingJob implements Runnable, ICraftingJob {
                     this.monitor.notify();
                 }
 
-                if (!this.running) {
-                    AELog.craftingDebug("crafting job will now sleep");
+                sleep = !this.running;
+            }
+
+            if (sleep) {
+                AELog.craftingDebug("crafting job will now sleep");
 
+                synchronized (this.monitor) {
                     while (!this.running) {
                         this.monitor.wait();
                     }
-
-                    AELog.craftingDebug("crafting job now active");
                 }
+
+                AELog.craftingDebug("crafting job now active");
             }
         }
 
@@ -336,6 +404,9 @@ public class CraftingJob implements Runnable, ICraftingJob {
         }
     }
 
+    private record BatchKey(IAEItemStack what, ICraftingPatternDetails details) {
+    }
+
     private static class TwoIntegers {
         private final long perOp = 0;
         private final long times = 0;
@@ -102,6 +102,7 @@ public class CraftingTreeNode {
             throws CraftBranchFailure, InterruptedException {
         addNode();
         this.job.handlePausing();
+        this.job.touch(this);
 
         final IItemList<IAEItemStack> inventoryList = inv.getItemList();
         final List<IAEItemStack> thingsUsed = new ArrayList<>();
@@ -253,6 +254,29 @@ public class CraftingTreeNode {
             for (final CraftingTreeProcess pro : this.nodes) {
                 try {
                     while (pro.possible && l > 0) {
+                        final IAEItemStack madeWhat = pro.getAmountCrafted(this.what);
+                        final long times = pro.getTimes(l, madeWhat.getStackSize());
+
+                        // the limit halves on every failure, so a shortage costs a few attempts instead of one per
+                        // unit.
+                        IAEItemStack batched = null;
+                        long batch = Math.min(times, this.job.getBatchLimit(this.what, pro.details));
+                        while (batched == null && batch > 1) {
+                            batched = this.requestBatch(inv, pro, batch, l, src);
+                            batch = Math.min(batch, this.job.getBatchLimit(this.what, pro.details));
+                        }
+
+                        if (batched != null) {
+                            this.bytes += batched.getStackSize();
+                            l -= batched.getStackSize();
+
+                            if (l <= 0) {
+                                return batched;
+                            }
+
+                            continue;
+                        }
+
                         final MECraftingInventory subInv = new MECraftingInventory(inv, true, true, true);
                         pro.request(subInv, 1, src);
 
@@ -307,6 +331,59 @@ public class CraftingTreeNode {
         throw new CraftBranchFailure(this.what, l);
     }
 
+    /**
+     * Tries to satisfy the request with a whole batch of crafts of one pattern, instead of going one craft at a time.
+     * If the batch fails, the job rolls back everything it touched and remembers the failure, so the caller can fall
+     * back to single crafts.
+     *
+     * @return the extracted result, or null if the batch could not be made
+     */
+    private IAEItemStack requestBatch(final MECraftingInventory inv, final CraftingTreeProcess pro, final long times,
+            final long l, final IActionSource src) throws InterruptedException {
+        final MECraftingInventory subInv = new MECraftingInventory(inv, true, true, true);
+        this.job.beginAttempt();
+
+        try {
+            pro.request(subInv, times, src);
+
+            this.what.setStackSize(l);
+            final IAEItemStack available = subInv.extractItems(this.what, Actionable.MODULATE, src);
+
+            if (available != null && subInv.commit(src)) {
+                this.job.endAttempt(true);
+                return available;
+            }
+        } catch (final CraftBranchFailure fail) {
+            // fall through and undo the attempt.
+        }
+
+        this.job.endAttempt(false);
+        this.job.addFailedBatch(this.what, pro.details, times);
+        return null;
+    }
+
+    CraftingTreeSnapshot.NodeState saveState() {
+        final List<IAEItemStack> usedCopy = new ArrayList<>();
+        for (final IAEItemStack i : this.used) {
+            usedCopy.add(i.copy());
+        }
+
+        return new CraftingTreeSnapshot.NodeState(this.bytes, this.missing, this.howManyEmitted, this.exhausted,
+                usedCopy);
+    }
+
+    void restoreState(final CraftingTreeSnapshot.NodeState state) {
+        this.bytes = state.bytes();
+        this.missing = state.missing();
+        this.howManyEmitted = state.howManyEmitted();
+        this.exhausted = state.exhausted();
+
+        this.used.resetStatus();
+        for (final IAEItemStack i : state.used()) {
+            this.used.add(i);
+        }
+    }
+
     boolean notRecursive(ICraftingPatternDetails details) {
         if (this.parent == null) {
             return true;
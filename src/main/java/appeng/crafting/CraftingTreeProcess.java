@@ -207,6 +207,7 @@ public class CraftingTreeProcess {
             throws CraftBranchFailure, InterruptedException {
         addProcess();
         this.job.handlePausing();
+        this.job.touch(this);
 
         // request and remove inputs...
         for (final Entry<CraftingTreeNode, Long> entry : this.nodes.object2LongEntrySet()) {
@@ -231,6 +232,8 @@ public class CraftingTreeProcess {
     }
 
     public void addContainers(IAEItemStack container) {
+        this.job.touch(this);
+
         if (this.containers == null) {
             this.containers = new ArrayList<>();
         }
@@ -277,6 +280,17 @@ public class CraftingTreeProcess {
         }
     }
 
+    CraftingTreeSnapshot.ProcessState saveState() {
+        return new CraftingTreeSnapshot.ProcessState(this.crafts, this.possible,
+                this.containers == null ? null : new ArrayList<>(this.containers));
+    }
+
+    void restoreState(final CraftingTreeSnapshot.ProcessState state) {
+        this.crafts = state.crafts();
+        this.possible = state.possible();
+        this.containers = state.containers() == null ? null : new ArrayList<>(state.containers());
+    }
+
     void setJob(final MECraftingInventory storage, final CraftingCPUCluster craftingCPUCluster, final IActionSource src)
             throws CraftBranchFailure {
         craftingCPUCluster.addCrafting(this.details, this.crafts);
@@ -0,0 +1,68 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import appeng.api.storage.data.IAEItemStack;
+
+/**
+ * What a speculative request changed in the crafting tree, so it can be undone.
+ *
+ * Nodes and processes hand over their state the first time they are touched during the request. Undoing only costs as
+ * much as the request itself did, not the size of the tree below it.
+ */
+final class CraftingTreeSnapshot {
+
+    private final Map<CraftingTreeNode, NodeState> nodes = new IdentityHashMap<>();
+    private final Map<CraftingTreeProcess, ProcessState> processes = new IdentityHashMap<>();
+
+    void touch(final CraftingTreeNode node) {
+        if (!this.nodes.containsKey(node)) {
+            this.nodes.put(node, node.saveState());
+        }
+    }
+
+    void touch(final CraftingTreeProcess process) {
+        if (!this.processes.containsKey(process)) {
+            this.processes.put(process, process.saveState());
+        }
+    }
+
+    /**
+     * Keeps the changes of a nested request, the enclosing one still has to be able to undo them.
+     */
+    void mergeInto(final CraftingTreeSnapshot outer) {
+        this.nodes.forEach(outer.nodes::putIfAbsent);
+        this.processes.forEach(outer.processes::putIfAbsent);
+    }
+
+    void restore() {
+        this.nodes.forEach(CraftingTreeNode::restoreState);
+        this.processes.forEach(CraftingTreeProcess::restoreState);
+    }
+
+    record NodeState(int bytes, long missing, long howManyEmitted, boolean exhausted, List<IAEItemStack> used) {
+    }
+
+    record ProcessState(long crafts, boolean possible, List<IAEItemStack> containers) {
+    }
+}
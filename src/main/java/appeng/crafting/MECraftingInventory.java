@@ -92,6 +92,42 @@ public class MECraftingInventory implements IMEInventory<IAEItemStack> {
         this.par = parent;
     }
 
+    /**
+     * Creates a layered child of another crafting inventory.
+     *
+     * Unlike copying the parents available items, the child only records the entries it touches and reads everything
+     * else through the parent, which makes branching O(1). The parent must not be modified until the child has been
+     * committed or discarded; {@link #commit(IActionSource)} merges the logged delta back into the parent.
+     */
+    public MECraftingInventory(final MECraftingInventory parent, final boolean logExtracted,
+            final boolean logInjections, final boolean logMissing) {
+        this.target = parent;
+        this.logExtracted = logExtracted;
+        this.logInjections = logInjections;
+        this.logMissing = logMissing;
+
+        if (logMissing) {
+            this.missingCache = StorageChannels.items().createList();
+        } else {
+            this.missingCache = null;
+        }
+
+        if (logExtracted) {
+            this.extractedCache = StorageChannels.items().createList();
+        } else {
+            this.extractedCache = null;
+        }
+
+        if (logInjections) {
+            this.injectedCache = StorageChannels.items().createList();
+        } else {
+            this.injectedCache = null;
+        }
+
+        this.localCache = new OverlayItemList(parent.localCache);
+        this.par = null;
+    }
+
     public MECraftingInventory(final IMEMonitor<IAEItemStack> target, final IActionSource src,
             final boolean logExtracted, final boolean logInjections, final boolean logMissing) {
         this.target = target;
@@ -0,0 +1,234 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.collect.Iterators;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+
+/**
+ * A copy-on-write view over another item list.
+ *
+ * Reads fall through to the parent list until an entry is touched, at which point a private copy of that single entry
+ * is made. Creating an overlay is therefore O(1) and its memory is proportional to the entries it actually touched,
+ * instead of the size of the whole network. The parent list must not be modified while the overlay is in use.
+ *
+ * Entries that drop to zero are kept in the overlay on purpose, they shadow the parent entry. Like
+ * {@link appeng.util.inv.ItemListIgnoreCrafting}, craftable flags are never recorded. After {@link #resetStatus()} the
+ * parent entries are treated as empty, without copying them.
+ */
+final class OverlayItemList implements IItemList<IAEItemStack> {
+
+    private final IItemList<IAEItemStack> parent;
+    private final Object2ObjectOpenHashMap<IAEItemStack, IAEItemStack> delta = new Object2ObjectOpenHashMap<>();
+    private boolean detached = false;
+
+    OverlayItemList(final IItemList<IAEItemStack> parent) {
+        this.parent = parent;
+    }
+
+    @Override
+    public void add(final IAEItemStack option) {
+        if (option == null) {
+            return;
+        }
+
+        final IAEItemStack local = this.getOrCreate(option);
+        local.setStackSize(local.getStackSize() + option.getStackSize());
+        local.setCountRequestable(local.getCountRequestable() + option.getCountRequestable());
+    }
+
+    @Override
+    public IAEItemStack findPrecise(final IAEItemStack i) {
+        if (i == null) {
+            return null;
+        }
+
+        return this.touch(i);
+    }
+
+    @Override
+    public Collection<IAEItemStack> findFuzzy(final IAEItemStack input, final FuzzyMode fuzzy) {
+        if (input == null) {
+            return new ArrayList<>();
+        }
+
+        // always hand out a detached collection, callers may remove stacks from it while iterating.
+        final List<IAEItemStack> out = new ArrayList<>();
+        for (final IAEItemStack is : this.parent.findFuzzy(input, fuzzy)) {
+            out.add(this.resolve(is));
+        }
+
+        for (final IAEItemStack is : this.delta.values()) {
+            if (is.getItem() == input.getItem() && this.peekParent(is) == null && is.fuzzyEquals(input, fuzzy)) {
+                out.add(is);
+            }
+        }
+
+        return out;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !this.iterator().hasNext();
+    }
+
+    @Override
+    public void addStorage(final IAEItemStack option) {
+        if (option == null) {
+            return;
+        }
+
+        this.getOrCreate(option).incStackSize(option.getStackSize());
+    }
+
+    @Override
+    public void addCrafting(final IAEItemStack option) {
+        // nothing.
+    }
+
+    @Override
+    public void addRequestable(final IAEItemStack option) {
+        if (option == null) {
+            return;
+        }
+
+        final IAEItemStack local = this.getOrCreate(option);
+        local.setCountRequestable(local.getCountRequestable() + option.getCountRequestable());
+    }
+
+    @Override
+    public IAEItemStack getFirstItem() {
+        final Iterator<IAEItemStack> it = this.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    @Override
+    public int size() {
+        // same as the backing lists, entries are counted even if they are empty.
+        int size = this.parent.size();
+
+        for (final IAEItemStack is : this.delta.values()) {
+            if (this.peekParent(is) == null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    @Override
+    public Iterator<IAEItemStack> iterator() {
+        final Iterator<IAEItemStack> local = Iterators.filter(this.delta.values().iterator(),
+                IAEItemStack::isMeaningful);
+
+        if (this.detached) {
+            return local;
+        }
+
+        // the parent only yields meaningful entries, its empty ones never need to be shadowed.
+        final Iterator<IAEItemStack> inherited = Iterators.filter(this.parent.iterator(),
+                is -> !this.delta.containsKey(is));
+
+        return Iterators.concat(local, inherited);
+    }
+
+    @Override
+    public void resetStatus() {
+        for (final IAEItemStack is : this.delta.values()) {
+            is.reset();
+        }
+
+        this.detached = true;
+    }
+
+    private IAEItemStack resolve(final IAEItemStack inherited) {
+        final IAEItemStack local = this.delta.get(inherited);
+
+        if (local != null) {
+            return local;
+        }
+
+        return this.detached ? this.touch(inherited) : inherited;
+    }
+
+    /**
+     * Looks up an entry without copying it, so stacked overlays do not copy into every layer on the way down.
+     */
+    private IAEItemStack peek(final IAEItemStack what) {
+        final IAEItemStack local = this.delta.get(what);
+
+        if (local != null || !this.detached) {
+            return local != null ? local : this.peekParent(what);
+        }
+
+        // hand out an empty copy, the inherited amount is gone since the reset.
+        return this.touch(what);
+    }
+
+    private IAEItemStack peekParent(final IAEItemStack what) {
+        if (this.parent instanceof OverlayItemList overlay) {
+            return overlay.peek(what);
+        }
+
+        return this.parent.findPrecise(what);
+    }
+
+    private IAEItemStack touch(final IAEItemStack what) {
+        IAEItemStack local = this.delta.get(what);
+
+        if (local == null) {
+            final IAEItemStack inherited = this.peekParent(what);
+
+            if (inherited == null) {
+                return null;
+            }
+
+            local = inherited.copy();
+            local.setCraftable(false);
+            if (this.detached) {
+                local.reset();
+            }
+            this.delta.put(local, local);
+        }
+
+        return local;
+    }
+
+    private IAEItemStack getOrCreate(final IAEItemStack what) {
+        IAEItemStack local = this.touch(what);
+
+        if (local == null) {
+            local = what.copy();
+            local.reset();
+            this.delta.put(local, local);
+        }
+
+        return local;
+    }
+}
@@ -38,6 +38,7 @@ import appeng.api.storage.StorageChannels;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
 import appeng.fluids.util.AEFluidStack;
+import appeng.fluids.util.FluidTankSnapshot;
 import appeng.me.GridAccessException;
 import appeng.me.helpers.IGridProxyable;
 import appeng.me.storage.ITickingMonitor;
@@ -183,6 +184,8 @@ public class FluidHandlerAdapter implements IMEInventory<IAEFluidStack>, IBaseMo
         private final IFluidHandler fluidHandler;
         private final StorageFilter mode;
         IItemList<IAEFluidStack> currentlyCached = StorageChannels.fluids().createList();
+        // what the tanks contained during the last full update.
+        private final FluidTankSnapshot tanks = new FluidTankSnapshot();
 
         public InventoryCache(IFluidHandler fluidHandler, StorageFilter mode) {
             this.mode = mode;
@@ -193,6 +196,10 @@ public class FluidHandlerAdapter implements IMEInventory<IAEFluidStack>, IBaseMo
             final List<IAEFluidStack> changes = new ArrayList<>();
             final IFluidTankProperties[] tankProperties = this.fluidHandler.getTankProperties();
 
+            if (this.tanks.isUnchanged(tankProperties)) {
+                return changes;
+            }
+
             IItemList<IAEFluidStack> currentlyOnStorage = StorageChannels.fluids().createList();
 
             for (IFluidTankProperties tankProperty : tankProperties) {
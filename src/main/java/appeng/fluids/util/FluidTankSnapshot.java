@@ -0,0 +1,55 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.fluids.util;
+
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+
+/**
+ * Remembers the contents of the tanks of a fluid handler, to tell whether they changed since the last look.
+ */
+public final class FluidTankSnapshot {
+
+    private FluidStack[] lastContents = new FluidStack[0];
+
+    /**
+     * Compares the tanks with the previous call and remembers their current contents.
+     *
+     * @return true, if neither the number of tanks nor any of their contents changed
+     */
+    public boolean isUnchanged(final IFluidTankProperties[] tankProperties) {
+        boolean unchanged = tankProperties.length == this.lastContents.length;
+
+        if (!unchanged) {
+            this.lastContents = new FluidStack[tankProperties.length];
+        }
+
+        for (int i = 0; i < tankProperties.length; i++) {
+            final FluidStack contents = tankProperties[i].getContents();
+            final FluidStack last = this.lastContents[i];
+
+            if (contents == null ? last != null : last == null || !contents.isFluidStackIdentical(last)) {
+                this.lastContents[i] = contents == null ? null : contents.copy();
+                unchanged = false;
+            }
+        }
+
+        return unchanged;
+    }
+}
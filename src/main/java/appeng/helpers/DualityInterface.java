@@ -85,6 +85,7 @@ import appeng.capabilities.Capabilities;
 import appeng.core.AELog;
 import appeng.core.settings.TickRates;
 import appeng.me.GridAccessException;
+import appeng.me.cache.InterfaceTerminalCache;
 import appeng.me.helpers.AENetworkProxy;
 import appeng.me.helpers.IGridProxyable;
 import appeng.me.helpers.MachineSource;
@@ -135,6 +136,16 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
     private IMEInventory<IAEItemStack> destination;
     private int isWorking = -1;
     private EnumSet<EnumFacing> visitedFaces = EnumSet.noneOf(EnumFacing.class);
+    private final InterfaceTarget[] targets = new InterfaceTarget[EnumFacing.values().length];
+    /**
+     * The machines next to this interface when it last looked, terminals show their name if it has no custom one.
+     */
+    private final TileEntity[] termNeighbours = new TileEntity[EnumFacing.values().length];
+    /**
+     * The world time at which {@link #targetsBusy} was worked out, or -1 if the targets changed since.
+     */
+    private long targetsBusyTime = -1;
+    private boolean targetsBusy;
     private EnumMap<EnumFacing, List<ItemStack>> waitingToSendFacing = new EnumMap<>(EnumFacing.class);
     private boolean resetConfigCache = true;
     private IMEMonitor<IAEItemStack> configCachedHandler;
@@ -202,6 +213,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             }
         } else if (inv == this.patterns && (!removed.isEmpty() || !added.isEmpty())) {
             this.updateCraftingList();
+            this.getTerminalCache().ifPresent(c -> c.onPatternsChanged(this.iHost));
         } else if (inv == this.storage && slot >= 0) {
             if (added != ItemStack.EMPTY) {
                 iHost.onStackReturnNetwork(AEItemStack.fromItemStack(added));
@@ -998,9 +1010,30 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             resetCraftingLock();
         }
 
+        if (settingName == Settings.INTERFACE_TERMINAL) {
+            this.onTerminalEntryChanged();
+        }
+
+        this.targetsBusyTime = -1;
+
         this.iHost.saveChanges();
     }
 
+    /**
+     * Lets open interface terminals know that the name of this interface changed, or whether it is shown at all.
+     */
+    public void onTerminalEntryChanged() {
+        this.getTerminalCache().ifPresent(InterfaceTerminalCache::onMembershipChanged);
+    }
+
+    private Optional<InterfaceTerminalCache> getTerminalCache() {
+        try {
+            return Optional.of(this.gridProxy.getGrid().getCache(InterfaceTerminalCache.class));
+        } catch (final GridAccessException e) {
+            return Optional.empty();
+        }
+    }
+
     private void cancelCrafting() {
         this.craftingTracker.cancel();
     }
@@ -1030,6 +1063,31 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     @Override
     public boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table) {
+        return this.pushPattern(patternDetails, table, false);
+    }
+
+    @Override
+    public int getMaxPatternCopies(final ICraftingPatternDetails patternDetails) {
+        // crafting patterns need a molecular assembler, which only takes one plan at a time. Blocking mode and the
+        // crafting locks are about a single set of inputs in flight, so they don't take batches either.
+        if (patternDetails.isCraftable() || this.isBlocking()
+                || this.cm.getSetting(Settings.UNLOCK) != LockCraftingMode.NONE) {
+            return 1;
+        }
+
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table,
+            final int copies) {
+        return this.pushPattern(patternDetails, table, copies > 1);
+    }
+
+    private boolean pushPattern(final ICraftingPatternDetails patternDetails, final InventoryCrafting table,
+            final boolean batch) {
+        this.targetsBusyTime = -1;
+
         if (this.hasItemsToSend() || this.hasItemsToSendFacing() || !this.gridProxy.isActive()
                 || !this.craftingList.contains(patternDetails)) {
             return false;
@@ -1047,13 +1105,14 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         }
 
         for (final EnumFacing s : visitedFaces) {
-            final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+            final InterfaceTarget target = this.getTarget(w, tile.getPos(), s);
+            final TileEntity te = target.getTile();
             if (te == null) {
                 visitedFaces.remove(s);
                 continue;
             }
 
-            var mon = te.getCapability(Capabilities.STORAGE_MONITORABLE_ACCESSOR, s.getOpposite());
+            var mon = target.getMonitorable();
             if (mon != null) {
                 visitedFaces.remove(s);
 
@@ -1119,6 +1178,10 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
             }
 
             if (te instanceof ICraftingMachine cm) {
+                if (batch) {
+                    continue;
+                }
+
                 if (cm.acceptsPlans()) {
                     visitedFaces.remove(s);
                     if (cm.pushPattern(patternDetails, table, s.getOpposite())) {
@@ -1129,7 +1192,7 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                 }
             }
 
-            InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
+            InventoryAdaptor ad = target.getAdaptor();
             if (ad != null) {
                 if (this.isBlocking()) {
                     IPhantomTile phantomTE;
@@ -1146,9 +1209,8 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
                                 }
                             }
                         }
-                    } else if (NonBlockingItems.INSTANCE.getMap().containsKey(
-                            w.getBlockState(tile.getPos().offset(s)).getBlock().getRegistryName().getNamespace())) {
-                        if (isCustomInvBlocking(te, s)) {
+                    } else if (target.isCustomBlocking()) {
+                        if (invIsCustomBlocking(target.getBlockingAdaptor())) {
                             visitedFaces.remove(s);
                             continue;
                         }
@@ -1229,88 +1291,91 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
 
     @Override
     public boolean isBusy() {
-        boolean busy = false;
-
         if (this.hasItemsToSend() || hasItemsToSendFacing()) {
             return true;
         }
 
-        if (this.isBlocking()) {
-            final EnumSet<EnumFacing> possibleDirections = this.iHost.getTargets();
-            final TileEntity tile = this.iHost.getTileEntity();
-            final World w = tile.getWorld();
+        if (!this.isBlocking()) {
+            return false;
+        }
 
-            boolean allAreBusy = true;
+        // the crafting CPU asks for every pattern, the targets are only looked at once per tick.
+        final long now = this.iHost.getTileEntity().getWorld().getTotalWorldTime();
+        if (this.targetsBusyTime != now) {
+            this.targetsBusy = this.areTargetsBusy();
+            this.targetsBusyTime = now;
+        }
 
-            for (final EnumFacing s : possibleDirections) {
-                final TileEntity te = w.getTileEntity(tile.getPos().offset(s));
+        return this.targetsBusy;
+    }
 
-                if (te instanceof IInterfaceHost || (te instanceof TileCableBus
-                        && ((TileCableBus) te).getPart(s.getOpposite()) instanceof PartInterface)) {
-                    try {
-                        IInterfaceHost targetTE;
-                        if (te instanceof IInterfaceHost) {
-                            targetTE = (IInterfaceHost) te;
-                        } else {
-                            targetTE = (IInterfaceHost) ((TileCableBus) te).getPart(s.getOpposite());
-                        }
+    private boolean areTargetsBusy() {
+        final EnumSet<EnumFacing> possibleDirections = this.iHost.getTargets();
+        final TileEntity tile = this.iHost.getTileEntity();
+        final World w = tile.getWorld();
 
-                        if (targetTE.getInterfaceDuality().sameGrid(this.gridProxy.getGrid())) {
-                            continue;
-                        } else {
-                            IStorageMonitorableAccessor mon = te
-                                    .getCapability(Capabilities.STORAGE_MONITORABLE_ACCESSOR, s.getOpposite());
-                            if (mon != null) {
-                                IStorageMonitorable sm = mon.getInventory(this.mySource);
-                                if (sm != null && Platform.canAccess(targetTE.getInterfaceDuality().gridProxy,
-                                        this.mySource)) {
-                                    if (sm.getInventory(
-                                            StorageChannels.items())
-                                            .getStorageList().isEmpty()) {
-                                        allAreBusy = false;
-                                        break;
-                                    }
+        boolean allAreBusy = true;
+
+        for (final EnumFacing s : possibleDirections) {
+            final InterfaceTarget target = this.getTarget(w, tile.getPos(), s);
+            final TileEntity te = target.getTile();
+
+            if (target.getInterfaceHost() != null) {
+                try {
+                    final IInterfaceHost targetTE = target.getInterfaceHost();
+
+                    if (targetTE.getInterfaceDuality().sameGrid(this.gridProxy.getGrid())) {
+                        continue;
+                    } else {
+                        IStorageMonitorableAccessor mon = target.getMonitorable();
+                        if (mon != null) {
+                            IStorageMonitorable sm = mon.getInventory(this.mySource);
+                            if (sm != null && Platform.canAccess(targetTE.getInterfaceDuality().gridProxy,
+                                    this.mySource)) {
+                                if (sm.getInventory(
+                                        StorageChannels.items())
+                                        .getStorageList().isEmpty()) {
+                                    allAreBusy = false;
+                                    break;
                                 }
                             }
                         }
-                    } catch (final GridAccessException e) {
-                        continue;
                     }
+                } catch (final GridAccessException e) {
                     continue;
                 }
+                continue;
+            }
 
-                final InventoryAdaptor ad = InventoryAdaptor.getAdaptor(te, s.getOpposite());
-                if (ad != null) {
-                    if (Platform.isModLoaded("actuallyadditions") && Platform.GTLoaded
-                            && te instanceof IPhantomTile phantomTE) {
-                        if (phantomTE.hasBoundPosition()) {
-                            TileEntity phantom = w.getTileEntity(phantomTE.getBoundPosition());
-                            if (NonBlockingItems.INSTANCE.getMap()
-                                    .containsKey(w.getBlockState(phantomTE.getBoundPosition()).getBlock()
-                                            .getRegistryName().getNamespace())) {
-                                if (!isCustomInvBlocking(phantom, s)) {
-                                    allAreBusy = false;
-                                    break;
-                                }
+            final InventoryAdaptor ad = target.getAdaptor();
+            if (ad != null) {
+                if (Platform.isModLoaded("actuallyadditions") && Platform.GTLoaded
+                        && te instanceof IPhantomTile phantomTE) {
+                    if (phantomTE.hasBoundPosition()) {
+                        TileEntity phantom = w.getTileEntity(phantomTE.getBoundPosition());
+                        if (NonBlockingItems.INSTANCE.getMap()
+                                .containsKey(w.getBlockState(phantomTE.getBoundPosition()).getBlock()
+                                        .getRegistryName().getNamespace())) {
+                            if (!isCustomInvBlocking(phantom, s)) {
+                                allAreBusy = false;
+                                break;
                             }
                         }
-                    } else if (NonBlockingItems.INSTANCE.getMap().containsKey(
-                            w.getBlockState(tile.getPos().offset(s)).getBlock().getRegistryName().getNamespace())) {
-                        if (!isCustomInvBlocking(te, s)) {
-                            allAreBusy = false;
-                            break;
-                        }
-                    } else {
-                        if (!invIsBlocked(ad)) {
-                            allAreBusy = false;
-                            break;
-                        }
+                    }
+                } else if (target.isCustomBlocking()) {
+                    if (!invIsCustomBlocking(target.getBlockingAdaptor())) {
+                        allAreBusy = false;
+                        break;
+                    }
+                } else {
+                    if (!invIsBlocked(ad)) {
+                        allAreBusy = false;
+                        break;
                     }
                 }
             }
-            busy = allAreBusy;
         }
-        return busy;
+        return allAreBusy;
     }
 
     boolean isCustomInvBlocking(TileEntity te, EnumFacing s) {
@@ -1318,6 +1383,48 @@ public class DualityInterface implements IGridTickable, IStorageMonitorable, IIn
         return invIsCustomBlocking(blockingInventoryAdaptor);
     }
 
+    private InterfaceTarget getTarget(final World w, final BlockPos pos, final EnumFacing side) {
+        InterfaceTarget target = this.targets[side.ordinal()];
+
+        if (target == null || !target.isValid()) {
+            target = new InterfaceTarget(w, pos.offset(side), side);
+            this.targets[side.ordinal()] = target;
+        }
+
+        return target;
+    }
+
+    /**
+     * Forgets what was found next to the interface, it is looked up again the next time it is needed.
+     */
+    public void onNeighborChanged() {
+        Arrays.fill(this.targets, null);
+        this.targetsBusyTime = -1;
+
+        if (!((ICustomNameObject) this.iHost).hasCustomInventoryName() && this.haveTermNeighboursChanged()) {
+            this.onTerminalEntryChanged();
+        }
+    }
+
+    /**
+     * Neighbours also report changes to their content, so only a different machine counts as a new name.
+     */
+    private boolean haveTermNeighboursChanged() {
+        final TileEntity hostTile = this.iHost.getTileEntity();
+        boolean changed = false;
+
+        for (final EnumFacing direction : this.iHost.getTargets()) {
+            final TileEntity directedTile = hostTile.getWorld().getTileEntity(hostTile.getPos().offset(direction));
+
+            if (this.termNeighbours[direction.ordinal()] != directedTile) {
+                this.termNeighbours[direction.ordinal()] = directedTile;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
     private boolean sameGrid(final IGrid grid) throws GridAccessException {
         return grid == this.gridProxy.getGrid();
     }
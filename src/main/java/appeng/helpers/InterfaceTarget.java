@@ -0,0 +1,143 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.helpers;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+import appeng.api.storage.IStorageMonitorableAccessor;
+import appeng.capabilities.Capabilities;
+import appeng.parts.misc.PartInterface;
+import appeng.tile.networking.TileCableBus;
+import appeng.util.InventoryAdaptor;
+import appeng.util.inv.BlockingInventoryAdaptor;
+
+/**
+ * What an interface found on one of its faces. The tile is resolved once and kept until a neighbor changes or the chunk
+ * of the neighbor unloads, so pushing patterns does not have to look it up on every call. A tile can hand out new
+ * capabilities without being replaced, so the adaptors are kept together with the handler they wrap and only built
+ * again when the tile returns a different one.
+ */
+final class InterfaceTarget {
+
+    private final Chunk chunk;
+    private final TileEntity tile;
+    private final EnumFacing opposite;
+    private final boolean customBlocking;
+    private final IInterfaceHost tileInterfaceHost;
+
+    private Object adaptorHandler;
+    private InventoryAdaptor adaptor;
+    private IItemHandler blockingHandler;
+    private BlockingInventoryAdaptor blockingAdaptor;
+
+    InterfaceTarget(final World w, final BlockPos pos, final EnumFacing side) {
+        this.chunk = w.getChunk(pos);
+        this.tile = w.getTileEntity(pos);
+        this.opposite = side.getOpposite();
+        this.customBlocking = this.tile != null && NonBlockingItems.INSTANCE.getMap()
+                .containsKey(w.getBlockState(pos).getBlock().getRegistryName().getNamespace());
+        this.tileInterfaceHost = this.tile instanceof IInterfaceHost host ? host : null;
+    }
+
+    boolean isValid() {
+        return this.chunk.isLoaded() && (this.tile == null || !this.tile.isInvalid());
+    }
+
+    TileEntity getTile() {
+        return this.tile;
+    }
+
+    IStorageMonitorableAccessor getMonitorable() {
+        if (this.tile == null) {
+            return null;
+        }
+        return this.tile.getCapability(Capabilities.STORAGE_MONITORABLE_ACCESSOR, this.opposite);
+    }
+
+    /**
+     * @return the interface on the other side, either a block or a part facing this one.
+     */
+    IInterfaceHost getInterfaceHost() {
+        if (this.tileInterfaceHost != null) {
+            return this.tileInterfaceHost;
+        }
+
+        // parts can be added and removed without replacing the cable bus.
+        if (this.tile instanceof TileCableBus cableBus
+                && cableBus.getPart(this.opposite) instanceof PartInterface part) {
+            return part;
+        }
+        return null;
+    }
+
+    InventoryAdaptor getAdaptor() {
+        final Object handler = this.getItemHandler(true);
+
+        if (handler != this.adaptorHandler) {
+            this.adaptorHandler = handler;
+            this.adaptor = handler != null ? InventoryAdaptor.getAdaptor(this.tile, this.opposite) : null;
+        }
+
+        return this.adaptor;
+    }
+
+    /**
+     * @return if the mod of the block is configured to only block on certain items, see {@link NonBlockingItems}
+     */
+    boolean isCustomBlocking() {
+        return this.customBlocking;
+    }
+
+    BlockingInventoryAdaptor getBlockingAdaptor() {
+        final IItemHandler handler = (IItemHandler) this.getItemHandler(false);
+
+        if (handler != this.blockingHandler) {
+            this.blockingHandler = handler;
+            this.blockingAdaptor = handler != null ? BlockingInventoryAdaptor.getAdaptor(this.tile, this.opposite)
+                    : null;
+        }
+
+        return this.blockingAdaptor;
+    }
+
+    /**
+     * @return the capability {@link InventoryAdaptor#getAdaptor} would wrap, the item repository only if asked for
+     */
+    private Object getItemHandler(final boolean repository) {
+        if (this.tile == null) {
+            return null;
+        }
+
+        if (repository && InventoryAdaptor.ITEM_REPOSITORY_CAPABILITY != null) {
+            final Object itemRepository = this.tile.getCapability(InventoryAdaptor.ITEM_REPOSITORY_CAPABILITY,
+                    this.opposite);
+            if (itemRepository != null) {
+                return itemRepository;
+            }
+        }
+
+        return this.tile.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, this.opposite);
+    }
+}
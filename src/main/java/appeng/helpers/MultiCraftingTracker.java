@@ -18,6 +18,7 @@
 
 package appeng.helpers;
 
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -107,6 +108,9 @@ public class MultiCraftingTracker {
                         // :P
                     } catch (final ExecutionException e) {
                         // :P
+                    } catch (final CancellationException e) {
+                        // the calculation was dropped, e.g. because we left the grid; ask again next time.
+                        this.setJob(x, null);
                     }
                 } else {
                     if (this.getLink(x) == null) {
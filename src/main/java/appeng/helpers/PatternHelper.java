@@ -21,6 +21,10 @@ package appeng.helpers;
 import static appeng.helpers.ItemStackHelper.stackFromNBT;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
 
 import net.minecraft.inventory.InventoryCrafting;
 import net.minecraft.item.Item;
@@ -52,9 +56,14 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
     public static final int CRAFTING_OUTPUT_LIMIT = 1;
     public static final int PROCESSING_OUTPUT_LIMIT = 6;
 
+    /**
+     * Decoded patterns by the shared definition of their pattern item, so identical patterns are only decoded once and
+     * their recipe is only looked up once. Entries go away with the last stack of the pattern.
+     */
+    private static final ConcurrentMap<ItemStack, PatternHelper> DECODED = new MapMaker().weakKeys().makeMap();
+
     private final ItemStack patternItem;
     private final InventoryCrafting crafting;
-    private final InventoryCrafting testFrame;
     private final ItemStack correctOutput;
     private final IRecipe standardRecipe;
     private final IAEItemStack[] condensedInputs;
@@ -64,28 +73,66 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
     private final Map<Integer, List<IAEItemStack>> substituteInputs;
     private final boolean isCrafting;
     private final boolean canSubstitute;
-    private final Set<TestLookup> failCache = new HashSet<>();
-    private final Set<TestLookup> passCache = new HashSet<>();
+    // slot and item to whether the item is accepted in that slot, shared by all helpers of the pattern.
+    private final ConcurrentMap<TestLookup, Boolean> testResults;
     private final IAEItemStack pattern;
     private int priority = 0;
 
     public PatternHelper(final ItemStack is, final World w) {
-        final NBTTagCompound encodedValue = is.getTagCompound();
+        this(decode(is, w), is);
+    }
+
+    /**
+     * Shares everything that was decoded with the other helpers of the same pattern, only the priority is its own.
+     */
+    private PatternHelper(final PatternHelper decoded, final ItemStack is) {
+        this.patternItem = is;
+        this.pattern = AEItemStack.fromItemStack(is);
+        this.crafting = decoded.crafting;
+        this.correctOutput = decoded.correctOutput;
+        this.standardRecipe = decoded.standardRecipe;
+        this.condensedInputs = decoded.condensedInputs;
+        this.condensedOutputs = decoded.condensedOutputs;
+        this.inputs = decoded.inputs;
+        this.outputs = decoded.outputs;
+        this.substituteInputs = decoded.substituteInputs;
+        this.isCrafting = decoded.isCrafting;
+        this.canSubstitute = decoded.canSubstitute;
+        this.testResults = decoded.testResults;
+    }
 
-        if (encodedValue == null) {
+    private static PatternHelper decode(final ItemStack is, final World w) {
+        if (is.getTagCompound() == null) {
             throw new IllegalArgumentException("No pattern here!");
         }
 
+        final ItemStack definition = AEItemStack.fromItemStack(is).getDefinition();
+        final PatternHelper decoded = DECODED.get(definition);
+
+        if (decoded != null) {
+            return decoded;
+        }
+
+        final PatternHelper created = new PatternHelper(is.getTagCompound(), w);
+        final PatternHelper existing = DECODED.putIfAbsent(definition, created);
+        return existing != null ? existing : created;
+    }
+
+    /**
+     * Decodes a pattern. It does not keep a reference to the pattern item, so it can be cached by it.
+     */
+    private PatternHelper(final NBTTagCompound encodedValue, final World w) {
+        this.testResults = new ConcurrentHashMap<>();
+
         final NBTTagList inTag = encodedValue.getTagList("in", 10);
         final NBTTagList outTag = encodedValue.getTagList("out", 10);
         this.isCrafting = encodedValue.getBoolean("crafting");
 
         crafting = new InventoryCrafting(new ContainerNull(), isCrafting ? 3 : 4, isCrafting ? 3 : 4);
-        testFrame = new InventoryCrafting(new ContainerNull(), isCrafting ? 3 : 4, isCrafting ? 3 : 4);
 
         this.canSubstitute = this.isCrafting && encodedValue.getBoolean("substitute");
-        this.patternItem = is;
-        this.pattern = AEItemStack.fromItemStack(is);
+        this.patternItem = ItemStack.EMPTY;
+        this.pattern = null;
 
         final List<IAEItemStack> in = new ArrayList<>();
         final List<IAEItemStack> out = new ArrayList<>();
@@ -105,7 +152,6 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
             }
 
             in.add(StorageChannels.items().createStack(gs));
-            this.testFrame.setInventorySlotContents(x, gs);
         }
 
         if (this.isCrafting) {
@@ -138,7 +184,7 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
 
         this.inputs = in.toArray(new IAEItemStack[isCrafting ? CRAFTING_INPUT_LIMIT : PROCESSING_INPUT_LIMIT]);
         this.outputs = out.toArray(new IAEItemStack[outputLength]);
-        this.substituteInputs = new HashMap<>(CRAFTING_INPUT_LIMIT);
+        this.substituteInputs = new ConcurrentHashMap<>(CRAFTING_INPUT_LIMIT);
 
         final Map<IAEItemStack, IAEItemStack> tmpOutputs = new HashMap<>();
 
@@ -198,7 +244,7 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
             return;
         }
 
-        (b == TestStatus.ACCEPT ? this.passCache : this.failCache).add(new TestLookup(slotIndex, i));
+        this.testResults.put(new TestLookup(slotIndex, i), b == TestStatus.ACCEPT);
     }
 
     @Override
@@ -207,7 +253,7 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
     }
 
     @Override
-    public synchronized boolean isValidItemForSlot(final int slotIndex, final ItemStack i, final World w) {
+    public boolean isValidItemForSlot(final int slotIndex, final ItemStack i, final World w) {
         if (!this.isCrafting) {
             throw new IllegalStateException("Only crafting recipes supported.");
         }
@@ -224,12 +270,6 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
                 break;
         }
 
-        for (int x = 0; x < this.crafting.getSizeInventory(); x++) {
-            this.testFrame.setInventorySlotContents(x, this.crafting.getStackInSlot(x));
-        }
-
-        this.testFrame.setInventorySlotContents(slotIndex, i);
-
         // If we cannot substitute, the items must match exactly
         if ((!(i.getItem().isDamageable() || Platform.isGTDamageableItem(i.getItem())) && !canSubstitute)
                 && slotIndex < inputs.length) {
@@ -239,11 +279,19 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
             }
         }
 
-        if (this.standardRecipe.matches(this.testFrame, w)) {
-            final ItemStack testOutput = this.standardRecipe.getCraftingResult(this.testFrame);
+        // a frame of its own, so validations of the same pattern can run in parallel.
+        final InventoryCrafting testFrame = new InventoryCrafting(new ContainerNull(), CRAFTING_GRID_DIMENSION,
+                CRAFTING_GRID_DIMENSION);
+        for (int x = 0; x < this.crafting.getSizeInventory(); x++) {
+            testFrame.setInventorySlotContents(x, this.crafting.getStackInSlot(x));
+        }
+
+        testFrame.setInventorySlotContents(slotIndex, i);
+
+        if (this.standardRecipe.matches(testFrame, w)) {
+            final ItemStack testOutput = this.standardRecipe.getCraftingResult(testFrame);
 
             if (Platform.itemComparisons().isSameItem(this.correctOutput, testOutput)) {
-                this.testFrame.setInventorySlotContents(slotIndex, this.crafting.getStackInSlot(slotIndex));
                 this.markItemAs(slotIndex, i, TestStatus.ACCEPT);
                 return true;
             }
@@ -406,15 +454,13 @@ public class PatternHelper implements ICraftingPatternDetails, Comparable<Patter
             return TestStatus.TEST;
         }
 
-        if (this.passCache.contains(new TestLookup(slotIndex, i))) {
-            return TestStatus.ACCEPT;
-        }
+        final Boolean accepted = this.testResults.get(new TestLookup(slotIndex, i));
 
-        if (this.failCache.contains(new TestLookup(slotIndex, i))) {
-            return TestStatus.DECLINE;
+        if (accepted == null) {
+            return TestStatus.TEST;
         }
 
-        return TestStatus.TEST;
+        return accepted ? TestStatus.ACCEPT : TestStatus.DECLINE;
     }
 
     @Override
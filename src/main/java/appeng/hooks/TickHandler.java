@@ -43,6 +43,8 @@ import appeng.core.AppEng;
 import appeng.core.sync.packets.PacketPaintedEntity;
 import appeng.crafting.CraftingJob;
 import appeng.me.Grid;
+import appeng.me.GridNode;
+import appeng.me.GridSplitQueue;
 import appeng.tile.AEBaseTile;
 import appeng.util.IWorldCallable;
 import appeng.util.Platform;
@@ -121,6 +123,19 @@ public class TickHandler {
         }
     }
 
+    /**
+     * Checks whether the grid of the node is still connected, after it lost a connection.
+     *
+     * The check runs at the start of the next world tick or at the end of the server tick, whichever comes first. Until
+     * then the node and everything behind it still report the old grid.
+     */
+    public void queueSplitCheck(final GridNode node) {
+        // for no there is no reason to care about this on the client...
+        if (Platform.isServer()) {
+            this.getRepo().splits.add(node);
+        }
+    }
+
     public Iterable<Grid> getGridList() {
         return this.getRepo().networks;
     }
@@ -169,6 +184,12 @@ public class TickHandler {
         if (ev.phase == Phase.START) {
             final Queue<IWorldCallable<?>> queue = this.callQueue.get(ev.world);
             this.processQueue(queue, ev.world);
+
+            // connections broken by players are destroyed before the worlds tick, split those grids before any
+            // machine reads them.
+            if (Platform.isServer()) {
+                this.getRepo().splits.process();
+            }
         }
 
         if (ev.phase == Phase.END) {
@@ -206,6 +227,9 @@ public class TickHandler {
                 }
             }
 
+            // split grids that lost connections during this tick.
+            repo.splits.process();
+
             // tick networks.
             this.getRepo().updateNetworks();
             for (final Grid g : this.getRepo().networks) {
@@ -261,12 +285,14 @@ public class TickHandler {
         private Set<Grid> networks = new HashSet<>();
         private Set<Grid> toAdd = new HashSet<>();
         private Set<Grid> toRemove = new HashSet<>();
+        private final GridSplitQueue splits = new GridSplitQueue();
 
         private void clear() {
             this.tiles = new ArrayDeque<>();
             this.networks = new HashSet<>();
             this.toAdd = new HashSet<>();
             this.toRemove = new HashSet<>();
+            this.splits.clear();
         }
 
         private synchronized void addNetwork(Grid g) {
@@ -100,6 +100,11 @@ public class Grid implements IGrid {
         return out;
     }
 
+    boolean contains(final GridNode gridNode) {
+        final Set<IGridNode> nodes = this.machines.get(gridNode.getMachineClass());
+        return nodes != null && nodes.contains(gridNode);
+    }
+
     void remove(final GridNode gridNode) {
         for (final IGridCache c : this.caches.values()) {
             final IGridHost machine = gridNode.getMachine();
@@ -219,6 +224,13 @@ public class Grid implements IGrid {
         return s;
     }
 
+    /**
+     * @return the members of the given machine class, or null if it never had any.
+     */
+    MachineSet getMachineSet(final Class<?> c) {
+        return this.machines.get(c);
+    }
+
     @Override
     public IReadOnlyCollection<IGridNode> getNodes() {
         return new GridNodeCollection(this.machines);
@@ -36,6 +36,7 @@ import appeng.api.util.IReadOnlyCollection;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.core.features.AEFeature;
+import appeng.me.cache.PathGridCache;
 import appeng.me.pathfinding.IPathItem;
 import appeng.util.Platform;
 import appeng.util.ReadOnlyCollection;
@@ -176,6 +177,10 @@ public class GridConnection implements IGridConnection, IPathItem {
         return this.usedChannels;
     }
 
+    public void incrementChannelCount(final int usedChannels) {
+        this.usedChannels += usedChannels;
+    }
+
     @Override
     public void finalizeChannels() {
         if (this.lastUsedChannels != this.usedChannels) {
@@ -254,9 +259,13 @@ public class GridConnection implements IGridConnection, IPathItem {
             }
         }
 
-        // a connection was destroyed RE-PATH!!
+        // a connection was created, extend the paths if possible.
         final IPathingGrid p = connection.sideA.getInternalGrid().getCache(IPathingGrid.class);
-        p.repath();
+        if (p instanceof PathGridCache pgc) {
+            pgc.onConnectionAdded(connection);
+        } else {
+            p.repath();
+        }
 
         connection.sideA.addConnection(connection);
         connection.sideB.addConnection(connection);
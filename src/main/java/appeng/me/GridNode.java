@@ -140,12 +140,8 @@ public class GridNode implements IGridNode, IPathItem {
     }
 
     void validateGrid() {
-        final GridSplitDetector gsd = new GridSplitDetector(this.getInternalGrid().getPivot());
-        this.beginVisit(gsd);
-        if (!gsd.isPivotFound()) {
-            final IGridVisitor gp = new GridPropagator(Grid.create(this));
-            this.beginVisit(gp);
-        }
+        // checked with every other node that lost a connection, see GridSplitQueue; until then the grid is unchanged.
+        TickHandler.instance().queueSplitCheck(this);
     }
 
     public Grid getInternalGrid() {
@@ -18,31 +18,54 @@
 
 package appeng.me;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IGridVisitor;
 
+/**
+ * Searches for the pivot of a grid, stopping early at nodes that are already known to be connected to it.
+ */
 class GridSplitDetector implements IGridVisitor {
 
     private final IGridNode pivot;
+    private final Set<IGridNode> connected;
+    private final List<IGridNode> visited = new ArrayList<>();
     private boolean pivotFound;
 
-    public GridSplitDetector(final IGridNode pivot) {
+    public GridSplitDetector(final IGridNode pivot, final Set<IGridNode> connected) {
         this.pivot = pivot;
+        this.connected = connected;
     }
 
     @Override
     public boolean visitNode(final IGridNode n) {
-        if (n == this.pivot) {
+        if (this.isPivotFound()) {
+            return false;
+        }
+
+        if (n == this.pivot || this.connected.contains(n)) {
             this.setPivotFound(true);
+            return false;
         }
 
-        return !this.isPivotFound();
+        this.visited.add(n);
+        return true;
     }
 
     public boolean isPivotFound() {
         return this.pivotFound;
     }
 
+    /**
+     * @return every node that was reached before the search stopped
+     */
+    public List<IGridNode> getVisited() {
+        return this.visited;
+    }
+
     private void setPivotFound(final boolean pivotFound) {
         this.pivotFound = pivotFound;
     }
@@ -0,0 +1,93 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me;
+
+import java.util.Map;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+import appeng.api.networking.IGridNode;
+
+/**
+ * Collects the nodes that lost a connection and checks once per tick whether their grid fell apart.
+ *
+ * A node that can still reach the pivot of its grid stays, otherwise everything it can reach is moved to a new grid.
+ * Nodes that were found to be connected to a pivot are remembered for the rest of the batch, so the searches of later
+ * candidates stop as soon as they hit one of them. Each node is therefore visited about once per batch, no matter how
+ * many connections were destroyed around it.
+ *
+ * Until the batch is processed, nodes that were cut off keep reporting their old grid. Callers comparing grids right
+ * after destroying a connection, like the ME P2P tunnel, therefore see them as connected; they are checked again once
+ * the split changes the channels of the affected nodes. Storage, crafting and power stay reachable across the broken
+ * connection for the rest of the tick, nothing is duplicated.
+ */
+public class GridSplitQueue {
+
+    private ReferenceLinkedOpenHashSet<GridNode> candidates = new ReferenceLinkedOpenHashSet<>();
+
+    public void add(final GridNode node) {
+        this.candidates.add(node);
+    }
+
+    public void clear() {
+        this.candidates = new ReferenceLinkedOpenHashSet<>();
+    }
+
+    public void process() {
+        if (this.candidates.isEmpty()) {
+            return;
+        }
+
+        // splitting can destroy further connections, those are checked with the next batch.
+        final Set<GridNode> batch = this.candidates;
+        this.candidates = new ReferenceLinkedOpenHashSet<>();
+
+        final Map<Grid, Set<IGridNode>> connected = new Reference2ObjectOpenHashMap<>();
+
+        for (final GridNode node : batch) {
+            final Grid grid = node.getMyGrid();
+
+            // destroyed in the meantime, or the grid itself is gone.
+            if (grid == null || grid.getPivot() == null || !grid.contains(node)) {
+                continue;
+            }
+
+            final Set<IGridNode> known = connected.computeIfAbsent(grid, g -> new ReferenceOpenHashSet<>());
+            if (known.contains(node)) {
+                continue;
+            }
+
+            final GridSplitDetector gsd = new GridSplitDetector(grid.getPivot(), known);
+            node.beginVisit(gsd);
+
+            if (gsd.isPivotFound()) {
+                known.addAll(gsd.getVisited());
+            } else {
+                final Grid split = Grid.create(node);
+                node.beginVisit(new GridPropagator(split));
+
+                // the search above covered the whole part that was split off.
+                connected.computeIfAbsent(split, g -> new ReferenceOpenHashSet<>()).addAll(gsd.getVisited());
+            }
+        }
+    }
+}
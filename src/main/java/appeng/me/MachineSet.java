@@ -19,6 +19,7 @@
 package appeng.me;
 
 import java.util.HashSet;
+import java.util.Iterator;
 
 import appeng.api.networking.IGridHost;
 import appeng.api.networking.IGridNode;
@@ -29,11 +30,81 @@ public class MachineSet extends HashSet<IGridNode> implements IMachineSet {
     private static final long serialVersionUID = 3224660708327386933L;
 
     private final Class<? extends IGridHost> machine;
+    /**
+     * The members as of the last change, shared by everyone iterating while the set may change.
+     */
+    private transient IGridNode[] snapshot = null;
 
     MachineSet(final Class<? extends IGridHost> m) {
         this.machine = m;
     }
 
+    @Override
+    public boolean add(final IGridNode node) {
+        if (super.add(node)) {
+            this.snapshot = null;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(final Object node) {
+        if (super.remove(node)) {
+            this.snapshot = null;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<IGridNode> iterator() {
+        final Iterator<IGridNode> it = super.iterator();
+
+        // removeIf, retainAll and friends remove through the iterator.
+        return new Iterator<IGridNode>() {
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public IGridNode next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                MachineSet.this.snapshot = null;
+            }
+        };
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.snapshot = null;
+    }
+
+    /**
+     * @return the current members, the array must not be modified.
+     */
+    IGridNode[] snapshot() {
+        if (this.snapshot == null) {
+            this.snapshot = this.toArray(new IGridNode[0]);
+        }
+        return this.snapshot;
+    }
+
+    /**
+     * @return true if the set did not change since the snapshot was taken.
+     */
+    boolean isCurrent(final IGridNode[] snapshot) {
+        return this.snapshot == snapshot;
+    }
+
     @Override
     public Class<? extends IGridHost> getMachineClass() {
         return this.machine;
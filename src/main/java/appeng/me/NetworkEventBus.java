@@ -18,6 +18,10 @@
 
 package appeng.me;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,16 +32,27 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import appeng.api.networking.IGridNode;
-import appeng.api.networking.IMachineSet;
 import appeng.api.networking.events.MENetworkEvent;
 import appeng.api.networking.events.MENetworkEventSubscribe;
 import appeng.core.AELog;
 
+/**
+ * Dispatches {@link MENetworkEvent}s to the caches and machines of a grid.
+ *
+ * Subscriber methods are compiled to direct invokers once per class. Each grid keeps an index of which subscribers
+ * are actually present on it per event type, which is rebuilt when a new machine class joins the grid.
+ */
 public class NetworkEventBus {
     private static final Collection<Class> READ_CLASSES = new HashSet<>();
     private static final Map<Class<? extends MENetworkEvent>, Map<Class, MENetworkEventInfo>> EVENTS = new HashMap<>();
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+    private final Map<Class<? extends MENetworkEvent>, Subscriber[]> index = new HashMap<>();
 
     void readClass(final Class listAs, final Class c) {
+        // a new class of machines joined the grid.
+        this.index.clear();
+
         if (READ_CLASSES.contains(c)) {
             return;
         }
@@ -61,7 +76,7 @@ public class NetworkEventBus {
                                 thisEvent = new MENetworkEventInfo();
                             }
 
-                            thisEvent.Add(types[0], c, m);
+                            thisEvent.Add(types[0], m);
 
                             classEvents.put(listAs, thisEvent);
                         } else {
@@ -80,27 +95,24 @@ public class NetworkEventBus {
     }
 
     MENetworkEvent postEvent(final Grid g, final MENetworkEvent e) {
-        final Map<Class, MENetworkEventInfo> subscribers = EVENTS.get(e.getClass());
         int x = 0;
 
         try {
-            if (subscribers != null) {
-                for (final Entry<Class, MENetworkEventInfo> subscriber : subscribers.entrySet()) {
-                    final MENetworkEventInfo target = subscriber.getValue();
-                    final GridCacheWrapper cache = g.getCaches().get(subscriber.getKey());
-                    if (cache != null) {
-                        x++;
-                        target.invoke(cache.getCache(), e);
-                    }
+            for (final Subscriber subscriber : this.getSubscribers(g, e.getClass())) {
+                final MENetworkEventInfo target = subscriber.info;
+                if (subscriber.cache != null) {
+                    x++;
+                    target.invoke(subscriber.cache, e);
+                }
 
-                    // events may create or remove grid nodes in rare cases
-                    final IMachineSet machines = g.getMachines(subscriber.getKey());
-                    final List<IGridNode> work = new ArrayList<>(machines.size());
-                    machines.forEach(work::add);
+                final MachineSet machines = subscriber.machines;
+                if (machines != null) {
+                    // events may create or remove grid nodes in rare cases, the snapshot stays as it is.
+                    final IGridNode[] work = machines.snapshot();
 
                     for (final IGridNode obj : work) {
                         // stil part of grid?
-                        if (machines.contains(obj)) {
+                        if (machines.isCurrent(work) || machines.contains(obj)) {
                             x++;
                             target.invoke(obj.getMachine(), e);
                         }
@@ -135,26 +147,71 @@ public class NetworkEventBus {
         return e;
     }
 
+    private Subscriber[] getSubscribers(final Grid g, final Class<? extends MENetworkEvent> event) {
+        Subscriber[] subscribers = this.index.get(event);
+
+        if (subscribers == null) {
+            final Map<Class, MENetworkEventInfo> all = EVENTS.get(event);
+            final List<Subscriber> present = new ArrayList<>();
+
+            if (all != null) {
+                for (final Entry<Class, MENetworkEventInfo> subscriber : all.entrySet()) {
+                    final GridCacheWrapper cache = g.getCaches().get(subscriber.getKey());
+                    final MachineSet machines = g.getMachineSet(subscriber.getKey());
+
+                    if (cache != null || machines != null) {
+                        present.add(new Subscriber(subscriber.getValue(), cache != null ? cache.getCache() : null,
+                                machines));
+                    }
+                }
+            }
+
+            subscribers = present.isEmpty() ? NO_SUBSCRIBERS : present.toArray(NO_SUBSCRIBERS);
+            this.index.put(event, subscribers);
+        }
+
+        return subscribers;
+    }
+
+    private static EventInvoker compile(final Class event, final Method m) {
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                    MethodType.methodType(EventInvoker.class),
+                    MethodType.methodType(void.class, Object.class, MENetworkEvent.class), lookup.unreflect(m),
+                    MethodType.methodType(void.class, m.getDeclaringClass(), event));
+            return (EventInvoker) site.getTarget().invokeExact();
+        } catch (final Throwable t) {
+            // not accessible from here, e.g. declared by a class that is not public.
+            m.setAccessible(true);
+            return m::invoke;
+        }
+    }
+
+    private record Subscriber(MENetworkEventInfo info, Object cache, MachineSet machines) {
+    }
+
+    @FunctionalInterface
+    private interface EventInvoker {
+        void invoke(Object obj, MENetworkEvent e) throws Throwable;
+    }
+
     private static class NetworkEventDone extends Throwable {
 
         private static final long serialVersionUID = -3079021487019171205L;
     }
 
-    private class EventMethod {
+    private static class EventMethod {
 
-        private final Class objClass;
-        private final Method objMethod;
-        private final Class objEvent;
+        private final EventInvoker invoker;
 
-        public EventMethod(final Class Event, final Class ObjClass, final Method ObjMethod) {
-            this.objClass = ObjClass;
-            this.objMethod = ObjMethod;
-            this.objEvent = Event;
+        public EventMethod(final Class Event, final Method ObjMethod) {
+            this.invoker = compile(Event, ObjMethod);
         }
 
         private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
             try {
-                this.objMethod.invoke(obj, e);
+                this.invoker.invoke(obj, e);
             } catch (final Throwable e1) {
                 AELog.error("[AppEng] Network Event caused exception:");
                 AELog.error("Class: %1s, Object: %2s", obj.getClass().getName(), obj.toString());
@@ -168,12 +225,12 @@ public class NetworkEventBus {
         }
     }
 
-    private class MENetworkEventInfo {
+    private static class MENetworkEventInfo {
 
         private final List<EventMethod> methods = new ArrayList<>();
 
-        private void Add(final Class Event, final Class ObjClass, final Method ObjMethod) {
-            this.methods.add(new EventMethod(Event, ObjClass, ObjMethod));
+        private void Add(final Class Event, final Method ObjMethod) {
+            this.methods.add(new EventMethod(Event, ObjMethod));
         }
 
         private void invoke(final Object obj, final MENetworkEvent e) throws NetworkEventDone {
@@ -20,10 +20,7 @@ package appeng.me.cache;
 
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 import java.util.stream.StreamSupport;
 
 import com.google.common.collect.*;
@@ -56,6 +53,8 @@ import appeng.api.storage.cells.ICellProvider;
 import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.core.AEConfig;
+import appeng.crafting.CraftingCalculationScheduler;
 import appeng.crafting.CraftingJob;
 import appeng.crafting.CraftingLink;
 import appeng.crafting.CraftingLinkNexus;
@@ -69,20 +68,11 @@ import appeng.tile.crafting.TileCraftingTile;
 public class CraftingGridCache
         implements ICraftingGrid, ICraftingProviderHelper, ICellProvider, IMEInventoryHandler<IAEItemStack> {
 
-    private static final ExecutorService CRAFTING_POOL;
+    private static final CraftingCalculationScheduler CRAFTING_POOL = new CraftingCalculationScheduler(
+            AEConfig.instance().getCraftingCalculationThreads());
     private static final Comparator<ICraftingPatternDetails> COMPARATOR = (firstDetail,
             nextDetail) -> nextDetail.getPriority() - firstDetail.getPriority();
 
-    static {
-        final ThreadFactory factory = ar -> {
-            final Thread crafting = new Thread(ar, "AE Crafting Calculator");
-            crafting.setDaemon(true);
-            return crafting;
-        };
-
-        CRAFTING_POOL = Executors.newCachedThreadPool(factory);
-    }
-
     private final Set<CraftingCPUCluster> craftingCPUClusters = new HashSet<>();
     private final Set<ICraftingProvider> craftingProviders = new HashSet<>();
     private final Map<IGridNode, ICraftingWatcher> craftingWatchers = new HashMap<>();
@@ -152,6 +142,8 @@ public class CraftingGridCache
                     link.removeNode();
                 }
             }
+
+            CRAFTING_POOL.cancelFor(this.grid, gridNode);
         }
 
         if (machine instanceof TileCraftingTile) {
@@ -454,9 +446,18 @@ public class CraftingGridCache
             throw new IllegalArgumentException("Invalid Crafting Job Request");
         }
 
+        // machines asking for the same thing can share a calculation, players and callbacks expect their own job.
+        final boolean shareable = cb == null && !actionSrc.player().isPresent();
+        if (shareable) {
+            final Future<ICraftingJob> inFlight = CRAFTING_POOL.join(grid, slotItem, actionSrc);
+            if (inFlight != null) {
+                return inFlight;
+            }
+        }
+
         final CraftingJob job = new CraftingJob(world, grid, actionSrc, slotItem, cb);
 
-        return CRAFTING_POOL.submit(job, job);
+        return CRAFTING_POOL.submit(grid, job, actionSrc, shareable);
     }
 
     @Override
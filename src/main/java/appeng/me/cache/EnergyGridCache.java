@@ -18,15 +18,17 @@
 
 package appeng.me.cache;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.NavigableSet;
-import java.util.PriorityQueue;
 import java.util.Queue;
-import java.util.Set;
 import java.util.SortedSet;
 
 import com.google.common.base.Preconditions;
@@ -103,6 +105,17 @@ public class EnergyGridCache implements IEnergyGrid {
     private boolean ongoingInjectOperation = false;
 
     private final Multiset<IEnergyGridProvider> energyGridProviders = HashMultiset.create();
+
+    /**
+     * Changes whenever an {@link IEnergyGridProvider} joins or leaves any grid, which invalidates the reachable
+     * providers of every grid.
+     */
+    private static int providerGeneration = 0;
+    private IEnergyGridProvider[] reachableProviders = null;
+    // the indices of the providers each reachable provider links to.
+    private int[][] reachableLinks = null;
+    private int reachableGeneration = -1;
+    private ProviderWalk walk = null;
     private final IGrid myGrid;
     private final HashMap<IGridNode, IEnergyWatcher> watchers = new HashMap<>();
 
@@ -238,25 +251,23 @@ public class EnergyGridCache implements IEnergyGrid {
     @Override
     public double extractAEPower(final double amt, final Actionable mode, final PowerMultiplier pm) {
         final double toExtract = pm.multiply(amt);
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
+
+        // nothing linked to this grid, so there is nothing to walk.
+        if (this.energyGridProviders.isEmpty()) {
+            return pm.divide(this.extractProviderPower(toExtract, mode));
+        }
 
         double extracted = 0;
-        toVisit.add(this);
 
-        while (!toVisit.isEmpty() && extracted < toExtract) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+        final ProviderWalk walk = this.startWalk();
+        IEnergyGridProvider next;
 
+        while (extracted < toExtract && (next = walk.next(COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST)) != null) {
             extracted += next.extractProviderPower(toExtract - extracted, mode);
-
-            for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
-                    toVisit.add(iEnergyGridProvider);
-                }
-            }
         }
 
+        this.endWalk(walk);
+
         return pm.divide(extracted);
     }
 
@@ -389,25 +400,21 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double injectPower(final double amt, final Actionable mode) {
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
-        toVisit.add(this);
+        if (this.energyGridProviders.isEmpty()) {
+            return this.injectProviderPower(amt, mode);
+        }
 
         double leftover = amt;
 
-        while (!toVisit.isEmpty() && leftover > 0) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+        final ProviderWalk walk = this.startWalk();
+        IEnergyGridProvider next;
 
+        while (leftover > 0 && (next = walk.next(COMPARATOR_LOWEST_PERCENTAGE_FIRST)) != null) {
             leftover = next.injectProviderPower(leftover, mode);
-
-            for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
-                    toVisit.add(iEnergyGridProvider);
-                }
-            }
         }
 
+        this.endWalk(walk);
+
         return leftover;
     }
 
@@ -427,26 +434,77 @@ public class EnergyGridCache implements IEnergyGrid {
 
     @Override
     public double getEnergyDemand(final double maxRequired) {
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
-        toVisit.add(this);
+        if (this.energyGridProviders.isEmpty()) {
+            return this.getProviderEnergyDemand(maxRequired);
+        }
 
         double required = 0;
 
-        while (!toVisit.isEmpty() && required < maxRequired) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+        final ProviderWalk walk = this.startWalk();
+        IEnergyGridProvider next;
 
+        while (required < maxRequired && (next = walk.next(COMPARATOR_LOWEST_PERCENTAGE_FIRST)) != null) {
             required += next.getProviderEnergyDemand(maxRequired - required);
+        }
+
+        this.endWalk(walk);
+
+        return required;
+    }
+
+    /**
+     * Starts a best-first walk over the providers that can be reached from this grid, beginning with itself.
+     */
+    private ProviderWalk startWalk() {
+        if (this.reachableGeneration != providerGeneration) {
+            this.findReachableProviders();
+        }
+
+        ProviderWalk walk = this.walk;
+        this.walk = null;
+
+        // a provider can call back into this grid while it is walked, that walk gets its own state.
+        if (walk == null || walk.providers != this.reachableProviders) {
+            walk = new ProviderWalk(this.reachableProviders, this.reachableLinks);
+        }
+
+        walk.reset();
+        return walk;
+    }
+
+    private void endWalk(final ProviderWalk walk) {
+        if (walk.providers == this.reachableProviders) {
+            this.walk = walk;
+        }
+    }
+
+    private void findReachableProviders() {
+        final List<IEnergyGridProvider> found = new ArrayList<>();
+        final Map<IEnergyGridProvider, Integer> indices = new HashMap<>();
+        final Queue<IEnergyGridProvider> toVisit = new ArrayDeque<>();
+
+        indices.put(this, 0);
+        toVisit.add(this);
+
+        while (!toVisit.isEmpty()) {
+            final IEnergyGridProvider next = toVisit.poll();
+            found.add(next);
 
             for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
+                if (indices.putIfAbsent(iEnergyGridProvider, indices.size()) == null) {
                     toVisit.add(iEnergyGridProvider);
                 }
             }
         }
 
-        return required;
+        final int[][] links = new int[found.size()][];
+        for (int i = 0; i < links.length; i++) {
+            links[i] = found.get(i).providers().stream().mapToInt(indices::get).distinct().toArray();
+        }
+
+        this.reachableProviders = found.toArray(new IEnergyGridProvider[0]);
+        this.reachableLinks = links;
+        this.reachableGeneration = providerGeneration;
     }
 
     @Override
@@ -463,6 +521,7 @@ public class EnergyGridCache implements IEnergyGrid {
     public void removeNode(final IGridNode node, final IGridHost machine) {
         if (machine instanceof IEnergyGridProvider) {
             this.energyGridProviders.remove(machine);
+            providerGeneration++;
         }
 
         // idle draw.
@@ -521,6 +580,7 @@ public class EnergyGridCache implements IEnergyGrid {
     public void addNode(final IGridNode node, final IGridHost machine) {
         if (machine instanceof IEnergyGridProvider) {
             this.energyGridProviders.add((IEnergyGridProvider) machine);
+            providerGeneration++;
         }
 
         // idle draw...
@@ -654,4 +714,60 @@ public class EnergyGridCache implements IEnergyGrid {
             }
         }
     }
+
+    /**
+     * Visits the reachable providers like a priority queue would, always picking the best one next to those visited so
+     * far. The order is decided when a provider is picked, since its stored energy changes during the walk. The arrays
+     * are reused between calls, so walking does not allocate.
+     */
+    private static final class ProviderWalk {
+
+        private final IEnergyGridProvider[] providers;
+        private final int[][] links;
+        private final boolean[] queued;
+        private final int[] frontier;
+        private int frontierSize;
+
+        private ProviderWalk(final IEnergyGridProvider[] providers, final int[][] links) {
+            this.providers = providers;
+            this.links = links;
+            this.queued = new boolean[providers.length];
+            this.frontier = new int[providers.length];
+        }
+
+        private void reset() {
+            Arrays.fill(this.queued, false);
+            this.queued[0] = true;
+            this.frontier[0] = 0;
+            this.frontierSize = 1;
+        }
+
+        /**
+         * @return the next provider to visit, or null once every reachable provider was visited
+         */
+        private IEnergyGridProvider next(final Comparator<IEnergyGridProvider> order) {
+            if (this.frontierSize == 0) {
+                return null;
+            }
+
+            int best = 0;
+            for (int i = 1; i < this.frontierSize; i++) {
+                if (order.compare(this.providers[this.frontier[i]], this.providers[this.frontier[best]]) < 0) {
+                    best = i;
+                }
+            }
+
+            final int index = this.frontier[best];
+            this.frontier[best] = this.frontier[--this.frontierSize];
+
+            for (final int link : this.links[index]) {
+                if (!this.queued[link]) {
+                    this.queued[link] = true;
+                    this.frontier[this.frontierSize++] = link;
+                }
+            }
+
+            return this.providers[index];
+        }
+    }
 }
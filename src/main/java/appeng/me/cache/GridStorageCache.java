@@ -42,6 +42,7 @@ import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
 import appeng.me.helpers.BaseActionSource;
+import appeng.me.helpers.FuzzyLevelTracker;
 import appeng.me.helpers.GenericInterestManager;
 import appeng.me.helpers.MachineSource;
 import appeng.me.storage.ItemWatcher;
@@ -54,10 +55,14 @@ public class GridStorageCache implements IStorageGrid {
     private final HashSet<ICellProvider> inactiveCellProviders = new HashSet<>();
     private final SetMultimap<IAEStack, ItemWatcher> interests = HashMultimap.create();
     private final GenericInterestManager<ItemWatcher> interestManager = new GenericInterestManager<>(this.interests);
+    private final FuzzyLevelTracker fuzzyLevelTracker = new FuzzyLevelTracker();
     private final HashMap<IGridNode, IStackWatcher> watchers = new HashMap<>();
     private final Map<IStorageChannel<? extends IAEStack>, NetworkInventoryHandler<?>> storageNetworks;
     private final Map<IStorageChannel<? extends IAEStack>, NetworkMonitor<?>> storageMonitors;
+    // the handlers each active provider currently has in the network storage, per channel.
+    private final Map<ICellProvider, Map<IStorageChannel<?>, List<IMEInventoryHandler>>> mountedCells = new HashMap<>();
     private int localDepth;
+    private boolean cellUpdatePending;
 
     public GridStorageCache(final IGrid g) {
         this.myGrid = g;
@@ -157,6 +162,8 @@ public class GridStorageCache implements IStorageGrid {
                     tracker.postChanges(channel, 1, h, actionSrc);
                 }
             });
+
+            this.mountCells(cc);
         }
 
         return tracker;
@@ -175,42 +182,121 @@ public class GridStorageCache implements IStorageGrid {
                     tracker.postChanges(channel, -1, h, actionSrc);
                 }
             });
+
+            this.unmountCells(cc);
         }
 
         return tracker;
     }
 
+    private void mountCells(final ICellProvider cc) {
+        final Map<IStorageChannel<?>, List<IMEInventoryHandler>> cells = new IdentityHashMap<>();
+
+        for (final IStorageChannel<?> channel : this.storageMonitors.keySet()) {
+            final List<IMEInventoryHandler> handlers = new ArrayList<>(cc.getCellArray(channel));
+            cells.put(channel, handlers);
+
+            final NetworkInventoryHandler network = this.storageNetworks.get(channel);
+            if (network != null) {
+                handlers.forEach(network::addNewStorage);
+            }
+        }
+
+        this.mountedCells.put(cc, cells);
+    }
+
+    private void unmountCells(final ICellProvider cc) {
+        final Map<IStorageChannel<?>, List<IMEInventoryHandler>> cells = this.mountedCells.remove(cc);
+
+        if (cells == null) {
+            return;
+        }
+
+        cells.forEach((channel, handlers) -> {
+            final NetworkInventoryHandler network = this.storageNetworks.get(channel);
+            if (network != null) {
+                handlers.forEach(network::removeStorage);
+            }
+        });
+    }
+
+    /**
+     * Swaps only the handlers of an already active provider that were added, removed or re-prioritized. Their
+     * contents are posted by the provider itself when its cells change, so the rest of the network is left alone.
+     */
+    private void remountCells(final ICellProvider cc) {
+        final Map<IStorageChannel<?>, List<IMEInventoryHandler>> cells = this.mountedCells.get(cc);
+
+        if (cells == null) {
+            this.mountCells(cc);
+            return;
+        }
+
+        for (final IStorageChannel<?> channel : this.storageMonitors.keySet()) {
+            final List<IMEInventoryHandler> before = cells.getOrDefault(channel, Collections.emptyList());
+            final List<IMEInventoryHandler> after = new ArrayList<>(cc.getCellArray(channel));
+            final NetworkInventoryHandler network = this.storageNetworks.get(channel);
+
+            if (network != null) {
+                final Set<IMEInventoryHandler> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+                kept.addAll(after);
+
+                for (final IMEInventoryHandler h : before) {
+                    if (!kept.contains(h) || network.isStale(h)) {
+                        network.removeStorage(h);
+                    }
+                }
+
+                for (final IMEInventoryHandler h : after) {
+                    if (network.isStale(h)) {
+                        network.addNewStorage(h);
+                    }
+                }
+            }
+
+            cells.put(channel, after);
+        }
+    }
+
     @MENetworkEventSubscribe
     public void cellUpdate(final MENetworkCellArrayUpdate ev) {
         if (localDepth > 0) {
+            this.cellUpdatePending = true;
             return;
         }
         localDepth++;
-        this.storageNetworks.clear();
-
-        final List<ICellProvider> ll = new ArrayList<ICellProvider>();
-        ll.addAll(this.inactiveCellProviders);
-        ll.addAll(this.activeCellProviders);
 
         final CellChangeTracker tracker = new CellChangeTracker();
 
-        for (final ICellProvider cc : ll) {
-            boolean active = true;
+        do {
+            this.cellUpdatePending = false;
 
-            if (cc instanceof IActionHost) {
-                final IGridNode node = ((IActionHost) cc).getActionableNode();
-                active = node != null && node.isActive();
-            }
+            final List<ICellProvider> ll = new ArrayList<ICellProvider>();
+            ll.addAll(this.inactiveCellProviders);
+            ll.addAll(this.activeCellProviders);
 
-            if (active) {
-                this.addCellProvider(cc, tracker);
-            } else {
-                this.removeCellProvider(cc, tracker);
+            for (final ICellProvider cc : ll) {
+                boolean active = true;
+
+                if (cc instanceof IActionHost) {
+                    final IGridNode node = ((IActionHost) cc).getActionableNode();
+                    active = node != null && node.isActive();
+                }
+
+                if (active) {
+                    if (this.activeCellProviders.contains(cc)) {
+                        this.remountCells(cc);
+                    } else {
+                        this.addCellProvider(cc, tracker);
+                    }
+                } else {
+                    this.removeCellProvider(cc, tracker);
+                }
             }
-        }
+        } while (this.cellUpdatePending);
+
         tracker.applyChanges();
         localDepth--;
-        this.storageMonitors.forEach((channel, monitor) -> monitor.setForceUpdate(true));
     }
 
     private <T extends IAEStack, C extends IStorageChannel<T>> void postChangesToNetwork(final C chan,
@@ -224,8 +310,8 @@ public class GridStorageCache implements IStorageGrid {
 
         final NetworkInventoryHandler<T> storageNetwork = new NetworkInventoryHandler<>(chan, security);
 
-        for (final ICellProvider cc : this.activeCellProviders) {
-            for (final IMEInventoryHandler<T> h : cc.getCellArray(chan)) {
+        for (final Map<IStorageChannel<?>, List<IMEInventoryHandler>> cells : this.mountedCells.values()) {
+            for (final IMEInventoryHandler<T> h : cells.getOrDefault(chan, Collections.emptyList())) {
                 storageNetwork.addNewStorage(h);
             }
         }
@@ -261,6 +347,10 @@ public class GridStorageCache implements IStorageGrid {
         return this.interestManager;
     }
 
+    public FuzzyLevelTracker getFuzzyLevelTracker() {
+        return this.fuzzyLevelTracker;
+    }
+
     IGrid getGrid() {
         return this.myGrid;
     }
@@ -0,0 +1,155 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import appeng.api.networking.IGrid;
+import appeng.api.networking.IGridCache;
+import appeng.api.networking.IGridHost;
+import appeng.api.networking.IGridNode;
+import appeng.api.networking.IGridStorage;
+import appeng.api.networking.events.MENetworkBootingStatusChange;
+import appeng.api.networking.events.MENetworkEventSubscribe;
+import appeng.api.networking.events.MENetworkPowerStatusChange;
+import appeng.helpers.IInterfaceHost;
+import appeng.parts.misc.PartInterface;
+import appeng.tile.misc.TileInterface;
+
+/**
+ * Tracks what open interface terminals have to update, so they do not have to look at every interface each tick.
+ *
+ * The membership version changes whenever the set of interfaces shown in a terminal might have changed: interfaces
+ * joining or leaving the grid, power or channel changes, or an interface being renamed or hidden. Channel changes only
+ * reach the machines themselves, so interfaces report them through {@link #onMembershipChanged()}. Terminals rebuild
+ * their list when it does. Changes to pattern inventories are appended to a log, which terminals read from the position
+ * they stopped at.
+ */
+public class InterfaceTerminalCache implements IGridCache {
+
+    private static final int MAX_LOG_SIZE = 1024;
+
+    private long membershipVersion = 0;
+    private final List<IInterfaceHost> changeLog = new ArrayList<>();
+    /**
+     * The position of the first entry of the change log, entries before it were dropped.
+     */
+    private long changeLogStart = 0;
+
+    public InterfaceTerminalCache(final IGrid g) {
+    }
+
+    @MENetworkEventSubscribe
+    public void bootingStatus(final MENetworkBootingStatusChange c) {
+        this.onMembershipChanged();
+    }
+
+    @MENetworkEventSubscribe
+    public void powerStatus(final MENetworkPowerStatusChange c) {
+        this.onMembershipChanged();
+    }
+
+    /**
+     * Called when an interface changed its name, its channel or whether it is shown in terminals.
+     */
+    public void onMembershipChanged() {
+        this.membershipVersion++;
+
+        // terminals rebuild their list anyway, which also drops references to removed interfaces.
+        this.changeLogStart += this.changeLog.size();
+        this.changeLog.clear();
+    }
+
+    /**
+     * Called when the content of an interface's pattern inventory changed.
+     */
+    public void onPatternsChanged(final IInterfaceHost host) {
+        if (this.changeLog.size() >= MAX_LOG_SIZE) {
+            this.changeLogStart += this.changeLog.size();
+            this.changeLog.clear();
+        }
+
+        this.changeLog.add(host);
+    }
+
+    public long getMembershipVersion() {
+        return this.membershipVersion;
+    }
+
+    /**
+     * @return the position after the last entry of the change log
+     */
+    public long getChangeLogEnd() {
+        return this.changeLogStart + this.changeLog.size();
+    }
+
+    /**
+     * Collects every interface whose patterns changed since the given position.
+     *
+     * @return false if some of these changes were dropped already, in which case every interface has to be checked
+     */
+    public boolean getChangesSince(final long position, final Collection<IInterfaceHost> out) {
+        if (position < this.changeLogStart) {
+            return false;
+        }
+
+        final int from = (int) (position - this.changeLogStart);
+        for (int i = from; i < this.changeLog.size(); i++) {
+            out.add(this.changeLog.get(i));
+        }
+
+        return true;
+    }
+
+    @Override
+    public void onUpdateTick() {
+
+    }
+
+    @Override
+    public void removeNode(final IGridNode gridNode, final IGridHost machine) {
+        if (machine instanceof TileInterface || machine instanceof PartInterface) {
+            this.onMembershipChanged();
+        }
+    }
+
+    @Override
+    public void addNode(final IGridNode gridNode, final IGridHost machine) {
+        if (machine instanceof TileInterface || machine instanceof PartInterface) {
+            this.onMembershipChanged();
+        }
+    }
+
+    @Override
+    public void onSplit(final IGridStorage destinationStorage) {
+
+    }
+
+    @Override
+    public void onJoin(final IGridStorage sourceStorage) {
+
+    }
+
+    @Override
+    public void populateGridStorage(final IGridStorage destinationStorage) {
+
+    }
+}
@@ -32,8 +32,10 @@ import appeng.api.config.Actionable;
 import appeng.api.networking.events.MENetworkStorageEvent;
 import appeng.api.networking.security.IActionSource;
 import appeng.api.storage.*;
+import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.api.storage.data.IItemList;
+import appeng.me.helpers.BaseActionSource;
 import appeng.me.storage.ItemWatcher;
 
 public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
@@ -52,6 +54,15 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
     private final IItemList<T> cachedList;
     @Nonnull
     private final Object2ObjectMap<IMEMonitorHandlerReceiver<T>, Object> listeners;
+    @Nonnull
+    private final Object2ObjectMap<IMEMonitorHandlerReceiver<T>, Object> batchedListeners;
+    // changes of the current tick, merged per stack, for the batched listeners.
+    @Nonnull
+    private IItemList<T> pendingChanges;
+    @Nullable
+    private IActionSource pendingSource;
+    // the source may be null, so it can not tell whether anything is pending.
+    private boolean hasPendingChanges = false;
 
     private boolean sendEvent = false;
     private long gridItemCount;
@@ -63,11 +74,17 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
         this.myChannel = chan;
         this.cachedList = chan.createList();
         this.listeners = new Object2ObjectOpenHashMap<>();
+        this.batchedListeners = new Object2ObjectOpenHashMap<>();
+        this.pendingChanges = chan.createList();
     }
 
     @Override
     public void addListener(final IMEMonitorHandlerReceiver<T> l, final Object verificationToken) {
-        this.listeners.put(l, verificationToken);
+        if (l.needsSynchronousUpdates()) {
+            this.listeners.put(l, verificationToken);
+        } else {
+            this.batchedListeners.put(l, verificationToken);
+        }
     }
 
     @Override
@@ -141,6 +158,7 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
     @Override
     public void removeListener(final IMEMonitorHandlerReceiver<T> l) {
         this.listeners.remove(l);
+        this.batchedListeners.remove(l);
     }
 
     @Override
@@ -158,7 +176,42 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
     }
 
     private void notifyListenersOfChange(final Iterable<T> diff, final IActionSource src) {
-        final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
+        this.notifyListenersOfChange(this.getListeners(), diff, src);
+
+        if (!this.batchedListeners.isEmpty()) {
+            for (final T change : diff) {
+                this.pendingChanges.addStorage(change);
+            }
+
+            if (!this.hasPendingChanges) {
+                this.pendingSource = src;
+                this.hasPendingChanges = true;
+            } else if (this.pendingSource != src) {
+                this.pendingSource = new BaseActionSource();
+            }
+        }
+    }
+
+    private void flushPendingChanges() {
+        final List<T> diff = new ArrayList<>();
+        for (final T change : this.pendingChanges) {
+            if (change.getStackSize() != 0) {
+                diff.add(change);
+            }
+        }
+
+        final IActionSource src = this.pendingSource;
+        this.pendingChanges = this.myChannel.createList();
+        this.pendingSource = null;
+        this.hasPendingChanges = false;
+
+        if (!diff.isEmpty()) {
+            this.notifyListenersOfChange(this.batchedListeners.entrySet().iterator(), diff, src);
+        }
+    }
+
+    private void notifyListenersOfChange(final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i,
+            final Iterable<T> diff, final IActionSource src) {
 
         while (i.hasNext()) {
             final Entry<IMEMonitorHandlerReceiver<T>, Object> o = i.next();
@@ -204,6 +257,10 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
             incGridCurrentCount(change.getStackSize());
             this.cachedList.addStorage(change);
 
+            if (this.myChannel == StorageChannels.items()) {
+                this.myGridCache.getFuzzyLevelTracker().onChange((IAEItemStack) change);
+            }
+
             if (this.myGridCache.getInterestManager().containsKey(change)) {
                 final Collection<ItemWatcher> list = this.myGridCache.getInterestManager().get(change);
 
@@ -278,11 +335,21 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
 
         if (myChannel == StorageChannels.items()) {
             gridItemCount = count;
+            this.myGridCache.getFuzzyLevelTracker().recount((IItemList<IAEItemStack>) this.cachedList);
         } else if (myChannel == StorageChannels.fluids()) {
             gridFluidCount = count;
         }
 
-        final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.getListeners();
+        // the listeners get the whole list again, whatever was still pending is part of it.
+        this.pendingChanges = this.myChannel.createList();
+        this.pendingSource = null;
+        this.hasPendingChanges = false;
+
+        this.notifyListUpdate(this.getListeners());
+        this.notifyListUpdate(this.batchedListeners.entrySet().iterator());
+    }
+
+    private void notifyListUpdate(final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i) {
         while (i.hasNext()) {
             final Entry<IMEMonitorHandlerReceiver<T>, Object> o = i.next();
             final IMEMonitorHandlerReceiver<T> receiver = o.getKey();
@@ -299,6 +366,9 @@ public class NetworkMonitor<T extends IAEStack> implements IMEMonitor<T> {
         if (forceUpdate) {
             forceUpdate();
         }
+        if (this.hasPendingChanges) {
+            this.flushPendingChanges();
+        }
         if (this.sendEvent) {
             this.sendEvent = false;
             this.myGridCache.getGrid().postEvent(new MENetworkStorageEvent(this, this.myChannel));
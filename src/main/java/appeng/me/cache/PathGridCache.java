@@ -47,6 +47,8 @@ import appeng.core.AEConfig;
 import appeng.core.AppEng;
 import appeng.core.stats.IAdvancementTrigger;
 import appeng.me.Grid;
+import appeng.me.GridConnection;
+import appeng.me.GridNode;
 import appeng.me.pathfinding.*;
 import appeng.tile.networking.TileController;
 
@@ -55,6 +57,16 @@ public class PathGridCache implements IPathingGrid {
     private static final String TAG_CHANNEL_MODE = "channelMode";
 
     private PathingCalculation ongoingCalculation = null;
+    /**
+     * Path items routed by the last full calculation and every extension since, null if there is no valid route tree.
+     */
+    private Set<IPathItem> routedItems = null;
+    /**
+     * Connections added since the last tick, which only extend the existing route tree.
+     */
+    private final Set<GridConnection> pendingConnections = new HashSet<>();
+    // nodes that were routed by an incremental pass without getting a channel.
+    private final Set<GridNode> unservedNodes = new HashSet<>();
     private final Set<TileController> controllers = new HashSet<>();
     private final Set<IGridNode> nodesNeedingChannels = new HashSet<>();
     private final Set<IGridNode> cannotCarryCompressedNodes = new HashSet<>();
@@ -94,6 +106,7 @@ public class PathGridCache implements IPathingGrid {
             }
 
             this.channelsInUse = 0;
+            this.routedItems = null;
 
             if (this.controllerState == ControllerState.NO_CONTROLLER) {
                 var requiredChannels = this.calculateAdHocChannels();
@@ -121,6 +134,7 @@ public class PathGridCache implements IPathingGrid {
                 ongoingCalculation.compute();
                 this.channelsByBlocks = ongoingCalculation.getChannelsByBlocks();
                 this.channelsInUse = ongoingCalculation.getChannelsInUse();
+                this.routedItems = ongoingCalculation.getRoutedItems();
                 ongoingCalculation = null;
             }
 
@@ -140,9 +154,61 @@ public class PathGridCache implements IPathingGrid {
 
             this.booting = false;
             this.grid.postEvent(new MENetworkBootingStatusChange());
+        } else if (!this.pendingConnections.isEmpty()) {
+            this.extendPaths();
+        }
+    }
+
+    /**
+     * Routes the path items that joined since the last tick without rebooting the network, see
+     * {@link IncrementalPathingCalculation}.
+     */
+    private void extendPaths() {
+        var calculation = new IncrementalPathingCalculation(this.routedItems, this.pendingConnections,
+                this.unservedNodes);
+        this.pendingConnections.clear();
+        calculation.compute();
+
+        this.unservedNodes.clear();
+        this.unservedNodes.addAll(calculation.getUnserved());
+
+        this.channelsInUse += calculation.getChannelsInUse();
+        this.channelsByBlocks += calculation.getChannelsByBlocks();
+
+        // finalizing the channels already told every node whose channel count changed, nothing else was rerouted.
+        // Controllers, multiblocks and dense or compressed cables always take a full repath, so the caches that
+        // follow those on boot have nothing to catch up on.
+        this.achievementPost();
+        this.setChannelPowerUsage(this.channelsByBlocks / 128.0);
+    }
+
+    /**
+     * Called when a connection was created on this grid. Connections that only add to the network extend the existing
+     * channel assignment on the next tick, anything else causes a full repath.
+     */
+    public void onConnectionAdded(final GridConnection connection) {
+        if (this.canExtendPaths(connection.a()) && this.canExtendPaths(connection.b())) {
+            this.pendingConnections.add(connection);
+        } else {
+            this.repath();
         }
     }
 
+    /**
+     * @return true if the node can join the network without recalculating every channel.
+     */
+    private boolean canExtendPaths(final IGridNode node) {
+        if (this.reboot || this.routedItems == null || this.recalculateControllerNextTick
+                || this.controllerState != ControllerState.CONTROLLER_ONLINE) {
+            return false;
+        }
+
+        // these change how channels are distributed in the whole network.
+        return !(node.getMachine() instanceof TileController) && !node.hasFlag(GridFlags.DENSE_CAPACITY)
+                && !node.hasFlag(GridFlags.COMPRESSED_CHANNEL) && !node.hasFlag(GridFlags.MULTIBLOCK)
+                && !node.hasFlag(GridFlags.CANNOT_CARRY_COMPRESSED);
+    }
+
     @Override
     public void removeNode(final IGridNode gridNode, final IGridHost machine) {
         if (machine instanceof TileController) {
@@ -176,7 +242,10 @@ public class PathGridCache implements IPathingGrid {
             this.cannotCarryCompressedNodes.add(gridNode);
         }
 
-        this.repath();
+        // the node is routed once its connections are added, see onConnectionAdded.
+        if (!this.canExtendPaths(gridNode)) {
+            this.repath();
+        }
     }
 
     private void recalcController() {
@@ -303,6 +372,9 @@ public class PathGridCache implements IPathingGrid {
 
         // clean up...
         this.ongoingCalculation = null;
+        this.routedItems = null;
+        this.pendingConnections.clear();
+        this.unservedNodes.clear();
 
         this.channelsByBlocks = 0;
         this.reboot = true;
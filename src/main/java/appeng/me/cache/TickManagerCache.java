@@ -19,7 +19,6 @@
 package appeng.me.cache;
 
 import java.util.HashMap;
-import java.util.PriorityQueue;
 
 import com.google.common.base.Preconditions;
 
@@ -36,6 +35,7 @@ import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
 import appeng.api.networking.ticking.TickingRequest;
 import appeng.me.cache.helpers.TickTracker;
+import appeng.me.cache.helpers.TimerWheel;
 
 public class TickManagerCache implements ITickManager {
 
@@ -43,7 +43,7 @@ public class TickManagerCache implements ITickManager {
     private final HashMap<IGridNode, TickTracker> sleeping = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> awake = new HashMap<>();
     private final HashMap<IGridNode, TickTracker> laterTicker = new HashMap<>();
-    private final PriorityQueue<TickTracker> upcomingTicks = new PriorityQueue<>();
+    private final TimerWheel upcomingTicks = new TimerWheel();
 
     private long currentTick = 0;
 
@@ -70,17 +70,9 @@ public class TickManagerCache implements ITickManager {
 
         try {
             this.currentTick++;
+            this.upcomingTicks.advance(this.currentTick);
 
-            while (!this.upcomingTicks.isEmpty()) {
-                tt = this.upcomingTicks.peek();
-
-                // Stop once it reaches a TickTracker running at a later tick
-                if (tt.getNextTick() > this.currentTick) {
-                    break;
-                }
-
-                this.upcomingTicks.poll();
-
+            while ((tt = this.upcomingTicks.poll()) != null) {
                 final int diff = (int) (this.currentTick - tt.getLastTick());
                 final TickRateModulation mod = tt.getGridTickable().tickingRequest(tt.getNode(), diff);
 
@@ -121,15 +113,20 @@ public class TickManagerCache implements ITickManager {
 
     private void addToQueue(final TickTracker tt) {
         tt.setLastTick(this.currentTick);
-        this.upcomingTicks.add(tt);
+        this.upcomingTicks.schedule(tt, tt.getNextTick());
     }
 
     @Override
     public void removeNode(final IGridNode gridNode, final IGridHost machine) {
         if (machine instanceof IGridTickable) {
             this.alertable.remove(gridNode);
-            this.sleeping.remove(gridNode);
-            this.awake.remove(gridNode);
+
+            // sleeping devices may still have a last tick scheduled.
+            final TickTracker asleep = this.sleeping.remove(gridNode);
+            final TickTracker tt = asleep != null ? asleep : this.awake.remove(gridNode);
+            if (tt != null) {
+                this.upcomingTicks.cancel(tt);
+            }
         }
     }
 
@@ -189,8 +186,7 @@ public class TickManagerCache implements ITickManager {
         tt.setCurrentRate(tt.getRequest().minTickRate);
 
         // prevent dupes and tick build up.
-        this.upcomingTicks.remove(tt);
-        this.upcomingTicks.add(tt);
+        this.upcomingTicks.schedule(tt, tt.getNextTick());
 
         return true;
     }
@@ -218,7 +214,6 @@ public class TickManagerCache implements ITickManager {
             final TickTracker gt = this.sleeping.get(node);
             this.sleeping.remove(node);
             this.awake.put(node, gt);
-            this.upcomingTicks.remove(gt);
             this.addToQueue(gt);
 
             return true;
@@ -37,6 +37,15 @@ public class TickTracker implements Comparable<TickTracker> {
     private long lastTick;
     private int currentRate;
 
+    // scheduling state, owned by the TimerWheel.
+    static final int UNSCHEDULED = -1;
+    static final int READY = -2;
+    int wheelSlot = UNSCHEDULED;
+    long wheelDue;
+    TickTracker wheelPrev;
+    TickTracker wheelNext;
+    boolean inReadyList;
+
     public TickTracker(final TickingRequest req, final IGridNode node, final IGridTickable gt, final long currentTick) {
         this.request = req;
         this.gt = gt;
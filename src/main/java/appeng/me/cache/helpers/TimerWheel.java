@@ -0,0 +1,141 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.cache.helpers;
+
+import java.util.ArrayDeque;
+
+/**
+ * Schedules {@link TickTracker}s by the tick they are due on.
+ *
+ * Trackers are kept in a ring of buckets indexed by their due tick, each bucket is an intrusive linked list. Scheduling,
+ * rescheduling and cancelling are O(1). Trackers due further away than the size of the ring stay in their bucket and
+ * are skipped until their round comes up.
+ */
+public class TimerWheel {
+
+    private static final int SLOTS = 256;
+    private static final int MASK = SLOTS - 1;
+
+    private final TickTracker[] heads = new TickTracker[SLOTS];
+    /**
+     * Trackers that are due, in the order they became due. Cancelled trackers are skipped when polled.
+     */
+    private final ArrayDeque<TickTracker> ready = new ArrayDeque<>();
+    private long currentTick = 0;
+
+    /**
+     * Moves everything that is due on the given tick to the ready list. Ticks must be advanced one by one.
+     */
+    public void advance(final long tick) {
+        this.currentTick = tick;
+
+        final int slot = (int) (tick & MASK);
+        TickTracker tt = this.heads[slot];
+
+        while (tt != null) {
+            final TickTracker next = tt.wheelNext;
+
+            if (tt.wheelDue <= tick) {
+                this.unlink(tt);
+                this.addReady(tt);
+            }
+
+            tt = next;
+        }
+    }
+
+    /**
+     * @return the next tracker that is due, or null if there is none.
+     */
+    public TickTracker poll() {
+        TickTracker tt;
+
+        while ((tt = this.ready.poll()) != null) {
+            tt.inReadyList = false;
+
+            if (tt.wheelSlot == TickTracker.READY) {
+                tt.wheelSlot = TickTracker.UNSCHEDULED;
+                return tt;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Schedules the tracker for the given tick, replacing any previous schedule. Trackers that are already due are
+     * returned by {@link #poll()} right away.
+     */
+    public void schedule(final TickTracker tt, final long due) {
+        this.cancel(tt);
+
+        if (due <= this.currentTick) {
+            this.addReady(tt);
+            return;
+        }
+
+        final int slot = (int) (due & MASK);
+        final TickTracker head = this.heads[slot];
+
+        tt.wheelDue = due;
+        tt.wheelSlot = slot;
+        tt.wheelPrev = null;
+        tt.wheelNext = head;
+
+        if (head != null) {
+            head.wheelPrev = tt;
+        }
+
+        this.heads[slot] = tt;
+    }
+
+    public void cancel(final TickTracker tt) {
+        if (tt.wheelSlot >= 0) {
+            this.unlink(tt);
+        }
+
+        // it might still be in the ready list, poll skips it.
+        tt.wheelSlot = TickTracker.UNSCHEDULED;
+    }
+
+    private void addReady(final TickTracker tt) {
+        tt.wheelSlot = TickTracker.READY;
+
+        if (!tt.inReadyList) {
+            tt.inReadyList = true;
+            this.ready.add(tt);
+        }
+    }
+
+    private void unlink(final TickTracker tt) {
+        if (tt.wheelPrev != null) {
+            tt.wheelPrev.wheelNext = tt.wheelNext;
+        } else {
+            this.heads[tt.wheelSlot] = tt.wheelNext;
+        }
+
+        if (tt.wheelNext != null) {
+            tt.wheelNext.wheelPrev = tt.wheelPrev;
+        }
+
+        tt.wheelPrev = null;
+        tt.wheelNext = null;
+        tt.wheelSlot = TickTracker.UNSCHEDULED;
+    }
+}
@@ -652,6 +652,13 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
 
             final ICraftingPatternDetails details = e.getKey();
 
+            if (this.executeBatch(details, e.getValue(), eg, cc)) {
+                if (this.remainingOperations == 0) {
+                    return;
+                }
+                continue;
+            }
+
             if (this.canCraft(details, details.getCondensedInputs())) {
                 InventoryCrafting ic = null;
 
@@ -826,6 +833,152 @@ public final class CraftingCPUCluster implements IAECluster, ICraftingCPU {
         }
     }
 
+    /**
+     * Pushes several copies of a processing pattern to a single medium at once. Every copy costs an operation, so the
+     * co-processors of this CPU limit the size of a batch, together with the inputs that are available and what the
+     * medium can take.
+     *
+     * @return true if a batch was pushed
+     */
+    private boolean executeBatch(final ICraftingPatternDetails details, final TaskProgress progress,
+            final IEnergyGrid eg, final CraftingGridCache cc) {
+        if (details.isCraftable() || this.remainingOperations < 2 || progress.value < 2) {
+            return false;
+        }
+
+        final long limit = Math.min(Math.min(progress.value, this.remainingOperations),
+                this.getFittingCopies(details.getInputs()));
+        final long available = limit < 2 ? limit : this.getAvailableCopies(details.getCondensedInputs(), limit);
+        if (available < 2) {
+            return false;
+        }
+
+        if (!visitedMediums.containsKey(details) || visitedMediums.get(details).isEmpty()) {
+            visitedMediums.put(details, new ArrayDeque<>(
+                    cc.getMediums(details).stream().filter(Objects::nonNull).collect(Collectors.toList())));
+        }
+
+        final Queue<ICraftingMedium> mediums = visitedMediums.get(details);
+        final int size = mediums.size();
+
+        for (int attempt = 0; attempt < size; attempt++) {
+            final ICraftingMedium m = mediums.peek();
+            final int copies = (int) Math.min(available, m.getMaxPatternCopies(details));
+
+            if (m.isBusy() || copies < 2) {
+                // leave it to the single pushes.
+                mediums.add(mediums.poll());
+                continue;
+            }
+
+            final IAEItemStack[] input = details.getInputs();
+            double sum = 0;
+
+            for (final IAEItemStack anInput : input) {
+                if (anInput != null) {
+                    sum += anInput.getStackSize() * copies;
+                }
+            }
+
+            // power...
+            if (eg.extractAEPower(sum, Actionable.MODULATE, PowerMultiplier.CONFIG) < sum - 0.01) {
+                return false;
+            }
+
+            final InventoryCrafting ic = new InventoryCrafting(new ContainerNull(),
+                    PatternHelper.PROCESSING_INPUT_WIDTH, PatternHelper.PROCESSING_INPUT_HEIGHT);
+
+            for (int x = 0; x < input.length; x++) {
+                if (input[x] != null) {
+                    final IAEItemStack request = input[x].copy();
+                    request.setStackSize(input[x].getStackSize() * copies);
+
+                    final IAEItemStack ais = this.inventory.extractItems(request, Actionable.MODULATE,
+                            this.machineSrc);
+                    if (ais != null) {
+                        this.postChange(request, this.machineSrc);
+                        ic.setInventorySlotContents(x, ais.createItemStack());
+                    }
+
+                    if (ais == null || ais.getStackSize() < request.getStackSize()) {
+                        this.returnItems(ic);
+                        return false;
+                    }
+                }
+            }
+
+            mediums.poll();
+
+            if (!m.pushPatterns(details, ic, copies)) {
+                this.returnItems(ic);
+                continue;
+            }
+
+            this.somethingChanged = true;
+            this.remainingOperations -= copies;
+
+            for (final IAEItemStack out : details.getCondensedOutputs()) {
+                final IAEItemStack total = out.copy();
+                total.setStackSize(out.getStackSize() * copies);
+
+                this.postChange(total, this.machineSrc);
+                this.waitingFor.add(total.copy());
+                this.postCraftingStatusChange(total.copy());
+            }
+
+            this.markDirty();
+            progress.value -= copies;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * @return how many copies fit on the crafting table, without exceeding the stack size of any input
+     */
+    private long getFittingCopies(final IAEItemStack[] inputs) {
+        long copies = Long.MAX_VALUE;
+
+        for (final IAEItemStack input : inputs) {
+            if (input != null) {
+                copies = Math.min(copies, input.getDefinition().getMaxStackSize() / input.getStackSize());
+            }
+        }
+
+        return copies;
+    }
+
+    /**
+     * @return how many times the inputs can be extracted, up to limit
+     */
+    private long getAvailableCopies(final IAEItemStack[] condensedInputs, final long limit) {
+        long copies = limit;
+
+        for (final IAEItemStack input : condensedInputs) {
+            final IAEItemStack request = input.copy();
+            request.setStackSize(input.getStackSize() * copies);
+
+            final IAEItemStack ais = this.inventory.extractItems(request, Actionable.SIMULATE, this.machineSrc);
+            copies = ais == null ? 0 : Math.min(copies, ais.getStackSize() / input.getStackSize());
+
+            if (copies == 0) {
+                break;
+            }
+        }
+
+        return copies;
+    }
+
+    private void returnItems(final InventoryCrafting ic) {
+        for (int x = 0; x < ic.getSizeInventory(); x++) {
+            final ItemStack is = ic.getStackInSlot(x);
+            if (!is.isEmpty()) {
+                this.inventory.injectItems(AEItemStack.fromItemStack(is), Actionable.MODULATE, this.machineSrc);
+            }
+        }
+    }
+
     private void storeItems() {
         Preconditions.checkState(isComplete, "CPU should be complete to prevent re-insertion when dumping items");
         final IGrid g = this.getGrid();
@@ -0,0 +1,212 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.helpers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongConsumer;
+
+import net.minecraft.item.Item;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectAVLTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.FuzzyDamageRange;
+
+/**
+ * Keeps running totals of everything that fuzzily matches a watched item, so fuzzy watchers do not have to search the
+ * network storage on every change.
+ *
+ * Watches of the same item and damage range share one counter, which is updated from the changes the network monitor
+ * posts. A watch is only notified when the total crosses its threshold.
+ */
+public class FuzzyLevelTracker {
+
+    private final Reference2ObjectOpenHashMap<Item, List<Counter>> counters = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * @param storage   the current network storage, used to set up a new counter
+     * @param threshold the listener is called with the new total whenever the total reaches the threshold or drops
+     *                  below it
+     */
+    public Watch watch(final IItemList<IAEItemStack> storage, final IAEItemStack filter, final FuzzyMode fuzzy,
+            final long threshold, final LongConsumer listener) {
+        final FuzzyDamageRange range = FuzzyDamageRange.of(filter.getDefinition(), fuzzy);
+        final List<Counter> list = this.counters.computeIfAbsent(filter.getItem(), i -> new ArrayList<>());
+
+        Counter counter = null;
+        for (final Counter c : list) {
+            if (Objects.equals(c.range, range)) {
+                counter = c;
+                break;
+            }
+        }
+
+        if (counter == null) {
+            counter = new Counter(filter.copy(), fuzzy, range);
+            counter.count = counter.sum(storage);
+            list.add(counter);
+        }
+
+        final Watch watch = new Watch(counter, threshold, listener);
+        counter.watches.computeIfAbsent(threshold, t -> new ArrayList<>()).add(watch);
+        return watch;
+    }
+
+    public void onChange(final IAEItemStack change) {
+        final List<Counter> list = this.counters.get(change.getItem());
+
+        if (list == null || change.getStackSize() == 0) {
+            return;
+        }
+
+        // collect first, listeners may change the watches.
+        final List<Watch> crossed = new ArrayList<>();
+        for (final Counter counter : list) {
+            if (counter.range == null || counter.range.contains(change)) {
+                counter.add(change.getStackSize(), crossed);
+            }
+        }
+
+        notify(crossed);
+    }
+
+    /**
+     * Recounts every total from scratch, after the network storage was rebuilt.
+     */
+    public void recount(final IItemList<IAEItemStack> storage) {
+        final List<Watch> crossed = new ArrayList<>();
+
+        for (final List<Counter> list : this.counters.values()) {
+            for (final Counter counter : list) {
+                counter.add(counter.sum(storage) - counter.count, crossed);
+            }
+        }
+
+        notify(crossed);
+    }
+
+    private static void notify(final List<Watch> crossed) {
+        for (final Watch watch : crossed) {
+            if (!watch.cancelled) {
+                watch.listener.accept(watch.counter.count);
+            }
+        }
+    }
+
+    private void remove(final Counter counter) {
+        final List<Counter> list = this.counters.get(counter.filter.getItem());
+
+        if (list != null) {
+            list.remove(counter);
+
+            if (list.isEmpty()) {
+                this.counters.remove(counter.filter.getItem());
+            }
+        }
+    }
+
+    private static final class Counter {
+
+        private final IAEItemStack filter;
+        private final FuzzyMode fuzzy;
+        private final FuzzyDamageRange range;
+        // watches by threshold, so only the ones that were crossed have to be looked at.
+        private final Long2ObjectSortedMap<List<Watch>> watches = new Long2ObjectAVLTreeMap<>();
+        private long count;
+
+        private Counter(final IAEItemStack filter, final FuzzyMode fuzzy, final FuzzyDamageRange range) {
+            this.filter = filter;
+            this.fuzzy = fuzzy;
+            this.range = range;
+        }
+
+        private long sum(final IItemList<IAEItemStack> storage) {
+            long sum = 0;
+            for (final IAEItemStack stack : storage.findFuzzy(this.filter, this.fuzzy)) {
+                sum += stack.getStackSize();
+            }
+            return sum;
+        }
+
+        private void add(final long delta, final List<Watch> crossed) {
+            if (delta == 0) {
+                return;
+            }
+
+            final long before = this.count;
+            this.count += delta;
+
+            // a threshold t is crossed if exactly one of both totals is >= t.
+            final long from = Math.min(before, this.count) + 1;
+            final long to = Math.max(before, this.count) + 1;
+
+            for (final List<Watch> list : this.watches.subMap(from, to).values()) {
+                crossed.addAll(list);
+            }
+        }
+    }
+
+    public final class Watch {
+
+        private final Counter counter;
+        private final long threshold;
+        private final LongConsumer listener;
+        private boolean cancelled = false;
+
+        private Watch(final Counter counter, final long threshold, final LongConsumer listener) {
+            this.counter = counter;
+            this.threshold = threshold;
+            this.listener = listener;
+        }
+
+        /**
+         * @return the current total of the watched items
+         */
+        public long getCount() {
+            return this.counter.count;
+        }
+
+        public void cancel() {
+            if (this.cancelled) {
+                return;
+            }
+
+            this.cancelled = true;
+
+            final List<Watch> list = this.counter.watches.get(this.threshold);
+            if (list != null) {
+                list.remove(this);
+
+                if (list.isEmpty()) {
+                    this.counter.watches.remove(this.threshold);
+                }
+            }
+
+            if (this.counter.watches.isEmpty()) {
+                FuzzyLevelTracker.this.remove(this.counter);
+            }
+        }
+    }
+}
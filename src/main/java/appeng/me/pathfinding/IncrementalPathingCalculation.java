@@ -0,0 +1,189 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.pathfinding;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+import appeng.api.networking.GridFlags;
+import appeng.me.GridConnection;
+import appeng.me.GridNode;
+import appeng.tile.networking.TileController;
+
+/**
+ * Extends the channel assignment of a previous {@link PathingCalculation} to path items that joined the grid since.
+ * <p>
+ * A BFS is started from the already routed side of every new connection and routes all path items that are not part
+ * of the existing tree yet. Nodes that require a channel get one if every node on their path to the controller still
+ * has capacity. Existing routes are never changed, so only the new items and the paths above them are touched. Nodes
+ * that did not get a channel in an earlier pass are tried again first.
+ * <p>
+ * This is only valid for items that do not change how channels are distributed in general, i.e. no controllers, dense
+ * cables, compressed channels or multiblocks. Those still need a full {@link PathingCalculation}.
+ */
+public class IncrementalPathingCalculation {
+    /**
+     * All path items with a route to the controller, shared with the grid and updated by this calculation.
+     */
+    private final Set<IPathItem> routed;
+    private final Queue<IPathItem> queue = new ArrayDeque<>();
+    /**
+     * Path items that were routed by this calculation.
+     */
+    private final Set<IPathItem> added = new HashSet<>();
+    /**
+     * Channels allocated by this calculation, on top of what the path items already carry.
+     */
+    private final Reference2IntOpenHashMap<IPathItem> allocated = new Reference2IntOpenHashMap<>();
+    /**
+     * Routed nodes that require a channel, but did not get one.
+     */
+    private final Set<GridNode> unserved = new HashSet<>();
+    private int channelsInUse = 0;
+    private int channelsByBlocks = 0;
+
+    public IncrementalPathingCalculation(Set<IPathItem> routed, Collection<GridConnection> connections,
+            Collection<GridNode> retry) {
+        this.routed = routed;
+
+        for (var node : retry) {
+            if (routed.contains(node) && node.getUsedChannels() == 0 && !tryUseChannel(node)) {
+                unserved.add(node);
+            }
+        }
+
+        for (var gc : connections) {
+            if (routed.contains(gc)) {
+                continue;
+            }
+
+            // Connections between two new items are picked up by the BFS once one of them is routed.
+            if (routed.contains(gc.a())) {
+                route(gc, gc.a());
+            } else if (routed.contains(gc.b())) {
+                route(gc, gc.b());
+            }
+        }
+    }
+
+    public void compute() {
+        while (!queue.isEmpty()) {
+            IPathItem i = queue.poll();
+            for (IPathItem pi : i.getPossibleOptions()) {
+                if (!routed.contains(pi)) {
+                    route(pi, i);
+                }
+            }
+        }
+
+        for (Reference2IntMap.Entry<IPathItem> e : allocated.reference2IntEntrySet()) {
+            if (e.getKey() instanceof GridNode node) {
+                node.incrementChannelCount(e.getIntValue());
+            } else {
+                ((GridConnection) e.getKey()).incrementChannelCount(e.getIntValue());
+            }
+        }
+
+        for (var pi : added) {
+            pi.finalizeChannels();
+        }
+        for (var pi : allocated.keySet()) {
+            if (!added.contains(pi)) {
+                pi.finalizeChannels();
+            }
+        }
+    }
+
+    private void route(IPathItem pathItem, IPathItem parent) {
+        pathItem.setControllerRoute(parent);
+        routed.add(pathItem);
+        added.add(pathItem);
+
+        if (pathItem.hasFlag(GridFlags.REQUIRE_CHANNEL) && !tryUseChannel((GridNode) pathItem)) {
+            unserved.add((GridNode) pathItem);
+        }
+
+        queue.add(pathItem);
+    }
+
+    /**
+     * Try to allocate a channel along the path from {@code start} to the controller.
+     *
+     * @return true if allocation was successful
+     */
+    private boolean tryUseChannel(GridNode start) {
+        // Check that the allocation is possible.
+        GridNode node = start;
+        while (node != null) {
+            if (getChannels(node) >= node.getMaxChannels()) {
+                return false;
+            }
+
+            node = getParent(node);
+        }
+
+        // Allocate the channel along the path.
+        node = start;
+        while (node != null) {
+            allocated.addTo(node, 1);
+            allocated.addTo(node.getControllerRoute(), 1);
+            channelsByBlocks += 2;
+
+            node = getParent(node);
+        }
+
+        channelsInUse++;
+        return true;
+    }
+
+    /**
+     * @return the next node on the way to the controller, or null if the controller is next.
+     */
+    private static GridNode getParent(GridNode node) {
+        var parent = ((GridConnection) node.getControllerRoute()).getControllerRoute();
+        return parent.getOwner() instanceof TileController ? null : parent;
+    }
+
+    private int getChannels(GridNode node) {
+        // Items that were just routed may still report channels from a grid they were part of before.
+        int channels = added.contains(node) ? 0 : node.getUsedChannels();
+        return channels + allocated.getInt(node);
+    }
+
+    /**
+     * @return the nodes that still have no channel, to be tried again by the next pass.
+     */
+    public Set<GridNode> getUnserved() {
+        return unserved;
+    }
+
+    public int getChannelsInUse() {
+        return channelsInUse;
+    }
+
+    public int getChannelsByBlocks() {
+        return channelsByBlocks;
+    }
+}
@@ -256,6 +256,13 @@ public class PathingCalculation {
         return channelsInUse;
     }
 
+    /**
+     * @return every path item that was routed to a controller, including the controllers.
+     */
+    public Set<IPathItem> getRoutedItems() {
+        return visited;
+    }
+
     public int getChannelsByBlocks() {
         return channelsByBlocks;
     }
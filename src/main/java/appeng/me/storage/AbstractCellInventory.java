@@ -18,6 +18,13 @@
 
 package appeng.me.storage;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraftforge.items.IItemHandler;
@@ -32,6 +39,9 @@ import appeng.api.storage.data.IItemList;
 import appeng.util.Platform;
 
 /**
+ * Every stored type keeps the NBT slot it was written to, so {@link #persist()} only has to write the slots that
+ * changed. When a type is used up, the type in the last slot moves into the gap to keep the slots contiguous.
+ *
  * @author DrummerMC
  * @version rv6 - 2018-01-17
  * @since rv6 2018-01-17
@@ -58,6 +68,16 @@ public abstract class AbstractCellInventory<T extends IAEStack> implements ICell
     protected final IStorageCell<T> cellType;
     protected final int itemsPerByte;
     private boolean isPersisted = true;
+    /**
+     * The stored entry of {@link #cellItems} for each NBT slot, and the other way around.
+     */
+    private final List<T> slotItems = new ArrayList<>();
+    private final Reference2IntMap<T> itemSlots = new Reference2IntOpenHashMap<>();
+    /**
+     * Slots whose type changed or was removed, and slots where only the amount changed.
+     */
+    private final BitSet dirtySlots = new BitSet();
+    private final BitSet dirtyCounts = new BitSet();
 
     static {
         for (int x = 0; x < MAX_ITEM_TYPES; x++) {
@@ -84,6 +104,7 @@ public abstract class AbstractCellInventory<T extends IAEStack> implements ICell
         this.storedItemTypes = this.tagCompound.getShort(ITEM_TYPE_TAG);
         this.storedItemCount = this.tagCompound.getLong(ITEM_COUNT_TAG);
         this.cellItems = null;
+        this.itemSlots.defaultReturnValue(-1);
     }
 
     protected IItemList<T> getCellItems() {
@@ -101,54 +122,89 @@ public abstract class AbstractCellInventory<T extends IAEStack> implements ICell
             return;
         }
 
-        long itemCount = 0;
-
-        // add new pretty stuff...
-        int x = 0;
-        for (final T v : this.cellItems) {
-            itemCount += v.getStackSize();
-
-            final NBTTagCompound g = new NBTTagCompound();
-            v.writeToNBT(g);
-            this.tagCompound.setTag(ITEM_SLOT_KEYS[x], g);
-            this.tagCompound.setLong(ITEM_SLOT_COUNT_KEYS[x], v.getStackSize());
+        for (int x = this.dirtySlots.nextSetBit(0); x >= 0; x = this.dirtySlots.nextSetBit(x + 1)) {
+            if (x < this.slotItems.size()) {
+                final T v = this.slotItems.get(x);
+                final NBTTagCompound g = new NBTTagCompound();
+                v.writeToNBT(g);
+                this.tagCompound.setTag(ITEM_SLOT_KEYS[x], g);
+                this.tagCompound.setLong(ITEM_SLOT_COUNT_KEYS[x], v.getStackSize());
+            } else {
+                // clean any old crusty stuff...
+                this.tagCompound.removeTag(ITEM_SLOT_KEYS[x]);
+                this.tagCompound.removeTag(ITEM_SLOT_COUNT_KEYS[x]);
+            }
+        }
 
-            x++;
+        for (int x = this.dirtyCounts.nextSetBit(0); x >= 0; x = this.dirtyCounts.nextSetBit(x + 1)) {
+            if (x < this.slotItems.size() && !this.dirtySlots.get(x)) {
+                this.tagCompound.setLong(ITEM_SLOT_COUNT_KEYS[x], this.slotItems.get(x).getStackSize());
+            }
         }
 
-        final short oldStoredItems = this.storedItemTypes;
+        this.dirtySlots.clear();
+        this.dirtyCounts.clear();
 
-        this.storedItemTypes = (short) this.cellItems.size();
-        if (this.cellItems.isEmpty()) {
+        if (this.storedItemTypes == 0) {
             this.tagCompound.removeTag(ITEM_TYPE_TAG);
         } else {
             this.tagCompound.setShort(ITEM_TYPE_TAG, this.storedItemTypes);
         }
 
-        this.storedItemCount = itemCount;
-        if (itemCount == 0) {
+        if (this.storedItemCount == 0) {
             this.tagCompound.removeTag(ITEM_COUNT_TAG);
         } else {
-            this.tagCompound.setLong(ITEM_COUNT_TAG, itemCount);
+            this.tagCompound.setLong(ITEM_COUNT_TAG, this.storedItemCount);
         }
 
-        // clean any old crusty stuff...
-        for (; x >= oldStoredItems && x < this.maxItemTypes; x++) {
-            this.tagCompound.removeTag(ITEM_SLOT_KEYS[x]);
-            this.tagCompound.removeTag(ITEM_SLOT_COUNT_KEYS[x]);
+        this.isPersisted = true;
+    }
+
+    /**
+     * Has to be called after the amount of a stored entry of {@link #cellItems} was changed, or after a new type was
+     * added to it.
+     *
+     * @param stored the entry as stored in {@link #cellItems}
+     * @param delta  how much the amount changed
+     */
+    protected void onItemChanged(final T stored, final long delta) {
+        this.storedItemCount += delta;
+
+        final int slot = this.itemSlots.getInt(stored);
+
+        if (stored.getStackSize() <= 0) {
+            if (slot >= 0) {
+                this.removeSlot(slot);
+            }
+        } else if (slot < 0) {
+            this.dirtySlots.set(this.slotItems.size());
+            this.itemSlots.put(stored, this.slotItems.size());
+            this.slotItems.add(stored);
+        } else {
+            this.dirtyCounts.set(slot);
         }
 
-        this.isPersisted = true;
+        this.storedItemTypes = (short) this.slotItems.size();
+        this.saveChanges();
     }
 
-    protected void saveChanges() {
-        // recalculate values
-        this.storedItemTypes = (short) this.cellItems.size();
-        this.storedItemCount = 0;
-        for (final T v : this.cellItems) {
-            this.storedItemCount += v.getStackSize();
+    private void removeSlot(final int slot) {
+        final int last = this.slotItems.size() - 1;
+        final T removed = this.slotItems.get(slot);
+        this.itemSlots.removeInt(removed);
+
+        if (slot != last) {
+            final T moved = this.slotItems.get(last);
+            this.slotItems.set(slot, moved);
+            this.itemSlots.put(moved, slot);
         }
 
+        this.slotItems.remove(last);
+        this.dirtySlots.set(slot);
+        this.dirtySlots.set(last);
+    }
+
+    protected void saveChanges() {
         this.isPersisted = false;
         if (this.container != null) {
             this.container.saveChanges(this);
@@ -164,6 +220,8 @@ public abstract class AbstractCellInventory<T extends IAEStack> implements ICell
         }
 
         this.cellItems.resetStatus(); // clears totals and stuff.
+        this.slotItems.clear();
+        this.itemSlots.clear();
 
         final long types = this.getStoredItemTypes();
         boolean needsUpdate = false;
@@ -172,13 +230,41 @@ public abstract class AbstractCellInventory<T extends IAEStack> implements ICell
             NBTTagCompound compoundTag = this.tagCompound.getCompoundTag(ITEM_SLOT_KEYS[slot]);
             long stackSize = this.tagCompound.getLong(ITEM_SLOT_COUNT_KEYS[slot]);
             needsUpdate |= !this.loadCellItem(compoundTag, stackSize);
+            // skipped or merged entries shift every later slot.
+            needsUpdate |= this.slotItems.size() != slot + 1;
+        }
+
+        long itemCount = 0;
+        for (final T v : this.slotItems) {
+            itemCount += v.getStackSize();
         }
 
+        final boolean countChanged = itemCount != this.storedItemCount || types != this.slotItems.size();
+        this.storedItemCount = itemCount;
+        this.storedItemTypes = (short) this.slotItems.size();
+
         if (needsUpdate) {
+            this.dirtySlots.set(0, (int) Math.max(types, this.slotItems.size()));
+        }
+
+        if (needsUpdate || countChanged) {
             this.saveChanges();
         }
     }
 
+    /**
+     * Adds an item read from the next slot to {@link #cellItems}.
+     */
+    protected void onItemLoaded(final T t) {
+        this.cellItems.add(t);
+
+        final T stored = this.cellItems.findPrecise(t);
+        if (stored != null && !this.itemSlots.containsKey(stored)) {
+            this.itemSlots.put(stored, this.slotItems.size());
+            this.slotItems.add(stored);
+        }
+    }
+
     /**
      * Load a single item.
      *
@@ -115,7 +115,8 @@ public class BasicCellInventory<T extends IAEStack> extends AbstractCellInventor
         }
 
         final T l = this.getCellItems().findPrecise(input);
-        if (l != null) {
+        // a used up type still has its entry, but has to be added like a new type.
+        if (l != null && l.getStackSize() > 0) {
             final long remainingItemCount = this.getRemainingItemCount();
             if (remainingItemCount <= 0) {
                 return input;
@@ -126,13 +127,13 @@ public class BasicCellInventory<T extends IAEStack> extends AbstractCellInventor
                 r.setStackSize(r.getStackSize() - remainingItemCount);
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() + remainingItemCount);
-                    this.saveChanges();
+                    this.onItemChanged(l, remainingItemCount);
                 }
                 return r;
             } else {
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() + input.getStackSize());
-                    this.saveChanges();
+                    this.onItemChanged(l, input.getStackSize());
                 }
                 return null;
             }
@@ -151,14 +152,14 @@ public class BasicCellInventory<T extends IAEStack> extends AbstractCellInventor
                         toWrite.setStackSize(remainingItemCount);
 
                         this.cellItems.add(toWrite);
-                        this.saveChanges();
+                        this.onItemChanged(this.cellItems.findPrecise(toWrite), remainingItemCount);
                     }
                     return toReturn;
                 }
 
                 if (mode == Actionable.MODULATE) {
                     this.cellItems.add(input);
-                    this.saveChanges();
+                    this.onItemChanged(this.cellItems.findPrecise(input), input.getStackSize());
                 }
 
                 return null;
@@ -186,13 +187,13 @@ public class BasicCellInventory<T extends IAEStack> extends AbstractCellInventor
                 Results.setStackSize(l.getStackSize());
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(0);
-                    this.saveChanges();
+                    this.onItemChanged(l, -Results.getStackSize());
                 }
             } else {
                 Results.setStackSize(size);
                 if (mode == Actionable.MODULATE) {
                     l.setStackSize(l.getStackSize() - size);
-                    this.saveChanges();
+                    this.onItemChanged(l, -size);
                 }
             }
         }
@@ -229,7 +230,7 @@ public class BasicCellInventory<T extends IAEStack> extends AbstractCellInventor
         t.setCraftable(false);
 
         if (stackSize > 0) {
-            this.cellItems.add(t);
+            this.onItemLoaded(t);
         }
 
         return true;
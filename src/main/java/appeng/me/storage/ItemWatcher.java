@@ -18,14 +18,21 @@
 
 package appeng.me.storage;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.function.LongConsumer;
 
+import appeng.api.config.FuzzyMode;
 import appeng.api.networking.storage.IStackWatcher;
 import appeng.api.networking.storage.IStackWatcherHost;
+import appeng.api.storage.StorageChannels;
+import appeng.api.storage.data.IAEItemStack;
 import appeng.api.storage.data.IAEStack;
 import appeng.me.cache.GridStorageCache;
+import appeng.me.helpers.FuzzyLevelTracker;
 
 /**
  * Maintain my interests, and a global watch list, they should always be fully synchronized.
@@ -35,6 +42,7 @@ public class ItemWatcher implements IStackWatcher {
     private final GridStorageCache gsc;
     private final IStackWatcherHost myObject;
     private final Set<IAEStack> myInterests = new HashSet<>();
+    private final List<FuzzyLevelTracker.Watch> myFuzzyWatches = new ArrayList<>();
 
     public ItemWatcher(final GridStorageCache cache, final IStackWatcherHost host) {
         this.gsc = cache;
@@ -59,8 +67,24 @@ public class ItemWatcher implements IStackWatcher {
         return this.myInterests.remove(o) && this.gsc.getInterestManager().remove(o, this);
     }
 
+    /**
+     * Watches the total of everything that fuzzily matches the filter, see
+     * {@link FuzzyLevelTracker#watch(appeng.api.storage.data.IItemList, IAEItemStack, FuzzyMode, long, LongConsumer)}.
+     * The watch ends when this watcher is reset.
+     */
+    public FuzzyLevelTracker.Watch addFuzzy(final IAEItemStack filter, final FuzzyMode fuzzy, final long threshold,
+            final LongConsumer listener) {
+        final FuzzyLevelTracker.Watch watch = this.gsc.getFuzzyLevelTracker().watch(
+                this.gsc.getInventory(StorageChannels.items()).getStorageList(), filter, fuzzy, threshold, listener);
+        this.myFuzzyWatches.add(watch);
+        return watch;
+    }
+
     @Override
     public void reset() {
+        this.myFuzzyWatches.forEach(FuzzyLevelTracker.Watch::cancel);
+        this.myFuzzyWatches.clear();
+
         final Iterator<IAEStack> i = this.myInterests.iterator();
 
         while (i.hasNext()) {
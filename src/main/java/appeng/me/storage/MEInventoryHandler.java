@@ -18,6 +18,7 @@
 
 package appeng.me.storage;
 
+
 import appeng.api.config.AccessRestriction;
 import appeng.api.config.Actionable;
 import appeng.api.config.IncludeExclude;
@@ -54,6 +55,10 @@ public class MEInventoryHandler<T extends IAEStack> implements IMEInventoryHandl
     private boolean hasWriteAccess;
     private boolean isSticky;
     private boolean gettingAvailableContent;
+    /**
+     * The network storage this handler is mounted in, told when access, partitioning or filtering changes.
+     */
+    private NetworkInventoryHandler<?> network;
 
     public MEInventoryHandler(final IMEInventory<T> i, final IStorageChannel<T> channel) {
         if (i instanceof IMEInventoryHandler) {
@@ -74,6 +79,7 @@ public class MEInventoryHandler<T extends IAEStack> implements IMEInventoryHandl
 
     public void setWhitelist(final IncludeExclude myWhitelist) {
         this.myWhitelist = myWhitelist;
+        this.onFilterChanged();
     }
 
     public AccessRestriction getBaseAccess() {
@@ -85,6 +91,7 @@ public class MEInventoryHandler<T extends IAEStack> implements IMEInventoryHandl
         this.cachedAccessRestriction = this.myAccess.restrictPermissions(this.internal.getAccess());
         this.hasReadAccess = this.cachedAccessRestriction.hasPermission(AccessRestriction.READ);
         this.hasWriteAccess = this.cachedAccessRestriction.hasPermission(AccessRestriction.WRITE);
+        this.onFilterChanged();
     }
 
     public IPartitionList<T> getPartitionList() {
@@ -93,6 +100,7 @@ public class MEInventoryHandler<T extends IAEStack> implements IMEInventoryHandl
 
     public void setPartitionList(final IPartitionList<T> myPartitionList) {
         this.myPartitionList = myPartitionList;
+        this.onFilterChanged();
     }
 
     @Override
@@ -169,6 +177,40 @@ public class MEInventoryHandler<T extends IAEStack> implements IMEInventoryHandl
         return this.internal.canAccept(input);
     }
 
+    /**
+     * The part of {@link #canAccept(IAEStack)} that only depends on configuration, not on the contents.
+     *
+     * @return false, if the input will be refused until the configuration changes
+     */
+    public boolean passesStaticFilter(final T input) {
+        if (!this.hasWriteAccess || !this.passesBlackOrWhitelist(input)) {
+            return false;
+        }
+
+        return !(this.internal instanceof MEInventoryHandler<T> inner) || inner.passesStaticFilter(input);
+    }
+
+    NetworkInventoryHandler<?> getNetwork() {
+        return this.network;
+    }
+
+    /**
+     * Called once the handler is part of a network storage, from then on filter changes invalidate its routing cache.
+     */
+    void setNetwork(final NetworkInventoryHandler<?> network) {
+        this.network = network;
+
+        if (this.internal instanceof MEInventoryHandler<T> inner) {
+            inner.setNetwork(network);
+        }
+    }
+
+    private void onFilterChanged() {
+        if (this.network != null) {
+            this.network.onFilterChanged();
+        }
+    }
+
     @Override
     public int getPriority() {
         return this.myPriority;
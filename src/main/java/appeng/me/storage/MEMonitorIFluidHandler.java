@@ -37,10 +37,13 @@ import appeng.api.storage.StorageChannels;
 import appeng.api.storage.data.IAEFluidStack;
 import appeng.api.storage.data.IItemList;
 import appeng.fluids.util.AEFluidStack;
+import appeng.fluids.util.FluidTankSnapshot;
 
 public class MEMonitorIFluidHandler implements IMEMonitor<IAEFluidStack>, ITickingMonitor {
     private final IFluidHandler handler;
     private IItemList<IAEFluidStack> cache = StorageChannels.fluids().createList();
+    // what the tanks contained during the last full update.
+    private final FluidTankSnapshot tanks = new FluidTankSnapshot();
     private final HashMap<IMEMonitorHandlerReceiver<IAEFluidStack>, Object> listeners = new HashMap<>();
     private IActionSource mySource;
     private StorageFilter mode = StorageFilter.EXTRACTABLE_ONLY;
@@ -119,6 +122,10 @@ public class MEMonitorIFluidHandler implements IMEMonitor<IAEFluidStack>, ITicki
         final List<IAEFluidStack> changes = new ArrayList<>();
         final IFluidTankProperties[] tankProperties = this.handler.getTankProperties();
 
+        if (this.tanks.isUnchanged(tankProperties)) {
+            return TickRateModulation.SLOWER;
+        }
+
         IItemList<IAEFluidStack> currentlyOnStorage = StorageChannels.fluids().createList();
 
         for (IFluidTankProperties tankProperty : tankProperties) {
@@ -124,6 +124,12 @@ public class MEMonitorPassThrough<T extends IAEStack> extends MEPassThrough<T>
         }
     }
 
+    @Override
+    public boolean needsSynchronousUpdates() {
+        // we forward changes across networks, which relies on the nesting detection of the source monitor.
+        return true;
+    }
+
     @Override
     public void onListUpdate() {
         final Iterator<Entry<IMEMonitorHandlerReceiver<T>, Object>> i = this.listeners.entrySet().iterator();
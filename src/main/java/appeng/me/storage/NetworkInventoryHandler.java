@@ -19,6 +19,7 @@
 package appeng.me.storage;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import appeng.api.config.AccessRestriction;
 import appeng.api.config.Actionable;
@@ -40,20 +41,36 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
     private static final ThreadLocal<Deque> DEPTH_SIM = new ThreadLocal<>();
     private static final Comparator<Integer> PRIORITY_SORTER = (o1, o2) -> Integer.compare(o2, o1);
 
+    private static final int MAX_CACHED_ROUTES = 4096;
+
     private static int currentPass = 0;
     private final IStorageChannel<T> myChannel;
     private final SecurityCache security;
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> craftingPriorityInventory;
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> priorityInventory;
     private final NavigableMap<Integer, List<IMEInventoryHandler<T>>> stickyPriorityInventory;
+    // where each handler was filed, its priority might have changed since.
+    private final Map<IMEInventoryHandler<T>, Mount<T>> mounts = new IdentityHashMap<>();
+    // handlers that are not ruled out by their partitioning or access, per item type, least recently used first.
+    private final Map<T, Route<T>> routes = new LinkedHashMap<>(16, 0.75f, true) {
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<T, Route<T>> eldest) {
+            return this.size() > MAX_CACHED_ROUTES;
+        }
+    };
+    // set by mounted handlers whose filter changed, filters can be configured while the network is walked.
+    private volatile boolean routesStale = false;
     private int myPass = 0;
 
     public NetworkInventoryHandler(final IStorageChannel<T> chan, final SecurityCache security) {
         this.myChannel = chan;
         this.security = security;
-        this.priorityInventory = new TreeMap<>(PRIORITY_SORTER);
-        this.stickyPriorityInventory = new TreeMap<>(PRIORITY_SORTER);
-        this.craftingPriorityInventory = new TreeMap<>(PRIORITY_SORTER);
+        // storage can be mounted or unmounted while the network is walked, e.g. when a cell update is triggered by an
+        // extraction. The maps never fail their iterators and the buckets are copied on write.
+        this.priorityInventory = new ConcurrentSkipListMap<>(PRIORITY_SORTER);
+        this.stickyPriorityInventory = new ConcurrentSkipListMap<>(PRIORITY_SORTER);
+        this.craftingPriorityInventory = new ConcurrentSkipListMap<>(PRIORITY_SORTER);
     }
 
     public void addNewStorage(final IMEInventoryHandler<T> h) {
@@ -68,7 +85,50 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
             list = this.priorityInventory;
         }
 
-        list.computeIfAbsent(priority, $ -> new ArrayList<>()).add(h);
+        final List<IMEInventoryHandler<T>> bucket = new ArrayList<>(list.getOrDefault(priority,
+                Collections.emptyList()));
+        bucket.add(h);
+        list.put(priority, bucket);
+        this.mounts.put(h, new Mount<>(list, priority));
+        this.routes.clear();
+
+        if (h instanceof MEInventoryHandler<T> meh) {
+            meh.setNetwork(this);
+        }
+    }
+
+    public void removeStorage(final IMEInventoryHandler<T> h) {
+        final Mount<T> mount = this.mounts.remove(h);
+
+        if (mount == null) {
+            return;
+        }
+
+        this.routes.clear();
+
+        if (h instanceof MEInventoryHandler<T> meh && meh.getNetwork() == this) {
+            meh.setNetwork(null);
+        }
+
+        final List<IMEInventoryHandler<T>> old = mount.list().get(mount.priority());
+        if (old != null) {
+            final List<IMEInventoryHandler<T>> bucket = new ArrayList<>(old);
+            bucket.removeIf(o -> o == h);
+
+            if (bucket.isEmpty()) {
+                mount.list().remove(mount.priority());
+            } else {
+                mount.list().put(mount.priority(), bucket);
+            }
+        }
+    }
+
+    /**
+     * @return true, if the handler is no longer filed under its current priority.
+     */
+    public boolean isStale(final IMEInventoryHandler<T> h) {
+        final Mount<T> mount = this.mounts.get(h);
+        return mount == null || mount.priority() != h.getPriority();
     }
 
     @Override
@@ -82,8 +142,10 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
             return input;
         }
 
+        final Route<T> route = this.getRoute(input);
+
         // First pass. Check if the crafting grid is awaiting the input.
-        for (final List<IMEInventoryHandler<T>> invList : this.craftingPriorityInventory.values()) {
+        for (final List<IMEInventoryHandler<T>> invList : route.crafting()) {
             Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
             while (ii.hasNext() && input != null) {
                 final IMEInventoryHandler<T> inv = ii.next();
@@ -104,7 +166,7 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
         boolean stickyInventoryFound = false;
         // For this pass we do return input if the item is able to go into a sticky inventory. We NEVER want to try and
         // insert the item into a non-sticky inventory if it could already go into a sticky inventory.
-        for (final List<IMEInventoryHandler<T>> stickyInvList : this.stickyPriorityInventory.values()) {
+        for (final List<IMEInventoryHandler<T>> stickyInvList : route.sticky()) {
             Iterator<IMEInventoryHandler<T>> ii = stickyInvList.iterator();
             while (ii.hasNext() && input != null) {
                 final IMEInventoryHandler<T> inv = ii.next();
@@ -121,7 +183,7 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
             return input;
         }
 
-        for (final List<IMEInventoryHandler<T>> invList : this.priorityInventory.values()) {
+        for (final List<IMEInventoryHandler<T>> invList : route.normal()) {
             Iterator<IMEInventoryHandler<T>> ii = invList.iterator();
             while (ii.hasNext() && input != null) {
                 final IMEInventoryHandler<T> inv = ii.next();
@@ -151,6 +213,52 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
         return input;
     }
 
+    /**
+     * Called by mounted handlers when their access, partitioning or filtering changed.
+     */
+    void onFilterChanged() {
+        this.routesStale = true;
+    }
+
+    private Route<T> getRoute(final T input) {
+        if (this.routesStale) {
+            this.routesStale = false;
+            this.routes.clear();
+        }
+
+        Route<T> route = this.routes.get(input);
+
+        if (route == null) {
+            route = new Route<>(this.findRoute(this.craftingPriorityInventory, input),
+                    this.findRoute(this.stickyPriorityInventory, input),
+                    this.findRoute(this.priorityInventory, input));
+            this.routes.put(IAEStack.copy(input), route);
+        }
+
+        return route;
+    }
+
+    private List<List<IMEInventoryHandler<T>>> findRoute(
+            final NavigableMap<Integer, List<IMEInventoryHandler<T>>> map, final T input) {
+        final List<List<IMEInventoryHandler<T>>> route = new ArrayList<>();
+
+        for (final List<IMEInventoryHandler<T>> invList : map.values()) {
+            final List<IMEInventoryHandler<T>> accepting = new ArrayList<>();
+
+            for (final IMEInventoryHandler<T> inv : invList) {
+                if (!(inv instanceof MEInventoryHandler<T> meh) || meh.passesStaticFilter(input)) {
+                    accepting.add(inv);
+                }
+            }
+
+            if (!accepting.isEmpty()) {
+                route.add(accepting);
+            }
+        }
+
+        return route;
+    }
+
     private boolean diveList(final NetworkInventoryHandler<T> networkInventoryHandler, final Actionable type) {
         final Deque cDepth = this.getDepth(type);
         if (cDepth.contains(networkInventoryHandler)) {
@@ -329,4 +437,11 @@ public class NetworkInventoryHandler<T extends IAEStack> implements IMEInventory
     public boolean validForPass(final int i) {
         return true;
     }
+
+    private record Route<T extends IAEStack>(List<List<IMEInventoryHandler<T>>> crafting,
+            List<List<IMEInventoryHandler<T>>> sticky, List<List<IMEInventoryHandler<T>>> normal) {
+    }
+
+    private record Mount<T extends IAEStack>(NavigableMap<Integer, List<IMEInventoryHandler<T>>> list, int priority) {
+    }
 }
@@ -64,6 +64,8 @@ import appeng.helpers.Reflected;
 import appeng.items.parts.PartModels;
 import appeng.me.GridAccessException;
 import appeng.me.cache.NetworkMonitor;
+import appeng.me.helpers.FuzzyLevelTracker;
+import appeng.me.storage.ItemWatcher;
 import appeng.parts.PartModel;
 import appeng.tile.inventory.AppEngInternalAEInventory;
 import appeng.util.Platform;
@@ -107,6 +109,7 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
     private IStackWatcher myWatcher;
     private IEnergyWatcher myEnergyWatcher;
     private ICraftingWatcher myCraftingWatcher;
+    private FuzzyLevelTracker.Watch myFuzzyWatch;
     private double centerX;
     private double centerY;
     private double centerZ;
@@ -127,7 +130,8 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
 
     public void setReportingValue(final long v) {
         this.reportingValue = v;
-        if (this.getConfigManager().getSetting(Settings.LEVEL_TYPE) == LevelType.ENERGY_LEVEL) {
+        if (this.getConfigManager().getSetting(Settings.LEVEL_TYPE) == LevelType.ENERGY_LEVEL
+                || this.myFuzzyWatch != null) {
             this.configureWatchers();
         } else {
             this.updateState();
@@ -212,6 +216,8 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
             this.myWatcher.reset();
         }
 
+        this.myFuzzyWatch = null;
+
         if (this.myEnergyWatcher != null) {
             this.myEnergyWatcher.reset();
         }
@@ -256,7 +262,17 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
         }
 
         try {
-            if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0 || myStack == null) {
+            if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0 && myStack != null
+                    && this.myWatcher instanceof ItemWatcher itemWatcher) {
+                this.getProxy().getStorage()
+                        .getInventory(StorageChannels.items())
+                        .removeListener(this);
+
+                // the emitter flips when the total reaches the reporting value, see isLevelEmitterOn.
+                final FuzzyMode fzMode = (FuzzyMode) this.getConfigManager().getSetting(Settings.FUZZY_MODE);
+                this.myFuzzyWatch = itemWatcher.addFuzzy(myStack, fzMode, this.reportingValue,
+                        this::onFuzzyLevelChange);
+            } else if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0 || myStack == null) {
                 this.getProxy()
                         .getStorage()
                         .getInventory(StorageChannels.items())
@@ -286,6 +302,8 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
             if (monitor instanceof NetworkMonitor) {
                 this.lastReportedValue = ((NetworkMonitor<IAEItemStack>) monitor).getGridCurrentCount();
             }
+        } else if (this.myFuzzyWatch != null) {
+            this.lastReportedValue = this.myFuzzyWatch.getCount();
         } else if (this.getInstalledUpgrades(Upgrades.FUZZY) > 0) {
             final FuzzyMode fzMode = (FuzzyMode) this.getConfigManager().getSetting(Settings.FUZZY_MODE);
 
@@ -301,6 +319,11 @@ public class PartLevelEmitter extends PartUpgradeable implements IEnergyWatcherH
         this.updateState();
     }
 
+    private void onFuzzyLevelChange(final long count) {
+        this.lastReportedValue = count;
+        this.updateState();
+    }
+
     @Override
     public void updateWatcher(final IStackWatcher newWatcher) {
         this.myWatcher = newWatcher;
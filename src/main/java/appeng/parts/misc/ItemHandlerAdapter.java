@@ -25,6 +25,8 @@ import com.google.common.primitives.Ints;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.items.IItemHandler;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 
@@ -45,8 +47,7 @@ import appeng.core.AELog;
 import appeng.me.GridAccessException;
 import appeng.me.helpers.IGridProxyable;
 import appeng.me.storage.ITickingMonitor;
-import appeng.util.inv.ItemHandlerIterator;
-import appeng.util.inv.ItemSlot;
+import appeng.util.inv.ItemSlotCache;
 import appeng.util.item.AEItemStack;
 
 /**
@@ -70,7 +71,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
             this.access = ((AccessRestriction) partStorageBus.getConfigManager().getSetting(Settings.ACCESS));
         }
         this.cache = new InventoryCache(this.itemHandler, this.mode);
-        this.cache.update();
+        this.cache.scanAll();
     }
 
     @Override
@@ -79,10 +80,16 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         ItemStack inputStack = iox.getCachedItemStack(iox.getStackSize());
 
         ItemStack remaining = inputStack;
+        final IntList touched = type == Actionable.MODULATE ? new IntArrayList() : null;
 
         int slotCount = this.itemHandler.getSlots();
         for (int i = 0; i < slotCount && !remaining.isEmpty(); i++) {
+            final ItemStack before = remaining;
             remaining = this.itemHandler.insertItem(i, remaining, type == Actionable.SIMULATE);
+
+            if (touched != null && (remaining != before || remaining.getCount() != before.getCount())) {
+                touched.add(i);
+            }
         }
 
         // Store the stack in the cache for next time.
@@ -101,10 +108,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         }
 
         if (type == Actionable.MODULATE) {
-            IAEItemStack added = iox.copy();
-            added.setStackSize(iox.getStackSize() - remaining.getCount());
-            this.cache.currentlyCached.add(added);
-            this.postDifference(Collections.singletonList(added));
+            this.refreshSlots(touched);
             try {
                 this.proxyable.getProxy().getTick().alertDevice(this.proxyable.getProxy().getNode());
             } catch (GridAccessException ex) {
@@ -123,6 +127,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         ItemStack gathered = ItemStack.EMPTY;
 
         final boolean simulate = (mode == Actionable.SIMULATE);
+        final IntList touched = simulate ? null : new IntArrayList();
         for (int i = 0; i < this.itemHandler.getSlots(); i++) {
             ItemStack stackInInventorySlot = this.itemHandler.getStackInSlot(i);
 
@@ -130,6 +135,10 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
                 continue;
             }
 
+            if (touched != null) {
+                touched.add(i);
+            }
+
             ItemStack extracted;
 
             int stackSizeCurrentSlot = stackInInventorySlot.getCount();
@@ -183,13 +192,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         if (!gathered.isEmpty()) {
             IAEItemStack gatheredAEItemStack = AEItemStack.fromItemStack(gathered);
             if (mode == Actionable.MODULATE) {
-                IAEItemStack cachedStack = this.cache.currentlyCached.findPrecise(request);
-                if (cachedStack != null) {
-                    cachedStack.decStackSize(gatheredAEItemStack.getStackSize());
-                    IAEItemStack negativeStack = gatheredAEItemStack.copy();
-                    negativeStack.setStackSize(-gatheredAEItemStack.getStackSize());
-                    this.postDifference(Collections.singletonList(negativeStack));
-                }
+                this.refreshSlots(touched);
                 try {
                     this.proxyable.getProxy().getTick().alertDevice(this.proxyable.getProxy().getNode());
                 } catch (GridAccessException ex) {
@@ -209,11 +212,23 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         if (!changes.isEmpty() && access.hasPermission(AccessRestriction.READ)) {
             this.postDifference(changes);
             return TickRateModulation.URGENT;
+        } else if (this.cache.isScanning()) {
+            return TickRateModulation.SAME;
         } else {
             return TickRateModulation.SLOWER;
         }
     }
 
+    /**
+     * Picks up the changes we made ourselves right away, instead of waiting for the next scan to get there.
+     */
+    private void refreshSlots(final IntList slots) {
+        final List<IAEItemStack> changes = this.cache.refresh(slots);
+        if (!changes.isEmpty()) {
+            this.postDifference(changes);
+        }
+    }
+
     @Override
     public void setActionSource(final IActionSource mySource) {
         this.mySource = mySource;
@@ -253,10 +268,19 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         }
     }
 
-    private static class InventoryCache implements Iterable<ItemSlot> {
+    /**
+     * Scans the inventory a bounded number of slots at a time, see {@link ItemSlotCache}.
+     */
+    private static class InventoryCache {
+        private static final int SLOTS_PER_SCAN = 512;
+        // every few complete sweeps, slots are checked again even if their content did not change.
+        private static final int SWEEPS_PER_FULL_SCAN = 10;
+
         private final IItemHandler itemHandler;
         private final StorageFilter mode;
-        IItemList<IAEItemStack> currentlyCached = StorageChannels.items().createList();
+        private final ItemSlotCache slots = new ItemSlotCache();
+        private boolean scanning = false;
+        private int sweeps = 0;
 
         public InventoryCache(IItemHandler itemHandler, StorageFilter mode) {
             this.mode = mode;
@@ -264,7 +288,7 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
         }
 
         public IItemList<IAEItemStack> getAvailableItems(IItemList<IAEItemStack> out) {
-            currentlyCached.iterator().forEachRemaining(out::add);
+            this.slots.getItems().iterator().forEachRemaining(out::add);
             return out;
         }
 
@@ -272,41 +296,52 @@ class ItemHandlerAdapter implements IMEInventory<IAEItemStack>, IBaseMonitor<IAE
             return this.mode;
         }
 
-        public List<IAEItemStack> update() {
-            final List<IAEItemStack> changes = new ArrayList<>();
+        /**
+         * @return if the last update stopped in the middle of the inventory
+         */
+        public boolean isScanning() {
+            return this.scanning;
+        }
+
+        public List<IAEItemStack> scanAll() {
+            final IItemList<IAEItemStack> changes = StorageChannels.items().createList();
+            this.slots.scan(this.itemHandler, this.mode, Integer.MAX_VALUE, true, changes);
+            this.scanning = false;
+            return collect(changes);
+        }
 
-            IItemList<IAEItemStack> currentlyOnStorage = StorageChannels.items().createList();
+        public List<IAEItemStack> update() {
+            final IItemList<IAEItemStack> changes = StorageChannels.items().createList();
+            final boolean force = this.sweeps == 0;
 
-            for (final ItemSlot is : this) {
-                if (this.mode == StorageFilter.EXTRACTABLE_ONLY && !is.isExtractable()) {
-                    continue;
-                }
-                currentlyOnStorage.add(is.getAEItemStack());
+            if (this.slots.scan(this.itemHandler, this.mode, SLOTS_PER_SCAN, force, changes)) {
+                this.scanning = false;
+                this.sweeps = (this.sweeps + 1) % SWEEPS_PER_FULL_SCAN;
+            } else {
+                this.scanning = true;
             }
 
-            for (final IAEItemStack is : currentlyCached) {
-                is.setStackSize(-is.getStackSize());
-            }
+            return collect(changes);
+        }
 
-            for (final IAEItemStack is : currentlyOnStorage) {
-                currentlyCached.add(is);
+        public List<IAEItemStack> refresh(final IntList touched) {
+            final IItemList<IAEItemStack> changes = StorageChannels.items().createList();
+            for (final int slot : touched) {
+                this.slots.refresh(this.itemHandler, slot, this.mode, false, changes);
             }
 
-            for (final IAEItemStack is : currentlyCached) {
+            return collect(changes);
+        }
+
+        private static List<IAEItemStack> collect(final IItemList<IAEItemStack> changes) {
+            final List<IAEItemStack> out = new ArrayList<>();
+            for (final IAEItemStack is : changes) {
                 if (is.getStackSize() != 0) {
-                    changes.add(is);
+                    out.add(is);
                 }
             }
 
-            currentlyCached = currentlyOnStorage;
-
-            return changes;
-        }
-
-        @Override
-        public Iterator<ItemSlot> iterator() {
-            return new ItemHandlerIterator(this.itemHandler);
+            return out;
         }
-
     }
 }
@@ -108,6 +108,7 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
     @MENetworkEventSubscribe
     public void chanRender(final MENetworkChannelsChanged c) {
         this.duality.notifyNeighbors();
+        this.duality.onTerminalEntryChanged();
     }
 
     @Override
@@ -229,6 +230,17 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
         return this.duality.pushPattern(patternDetails, table);
     }
 
+    @Override
+    public int getMaxPatternCopies(final ICraftingPatternDetails patternDetails) {
+        return this.duality.getMaxPatternCopies(patternDetails);
+    }
+
+    @Override
+    public boolean pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table,
+            final int copies) {
+        return this.duality.pushPatterns(patternDetails, table, copies);
+    }
+
     @Override
     public boolean isBusy() {
         return this.duality.isBusy();
@@ -277,6 +289,8 @@ public class PartInterface extends PartBasicState implements IGridTickable, ISto
 
     @Override
     public void onNeighborChanged(IBlockAccess w, BlockPos pos, BlockPos neighbor) {
+        this.duality.onNeighborChanged();
+
         TileEntity tileEntity = getTileEntity();
         if (tileEntity instanceof TileInterface) {
             ((TileInterface) tileEntity).updateRedstoneState();
@@ -21,6 +21,7 @@ package appeng.spatial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.Set;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -30,8 +31,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.NextTickListEntry;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.NibbleArray;
 import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
 import appeng.api.AEApi;
 import appeng.api.movable.IMovableHandler;
 import appeng.api.movable.IMovableRegistry;
@@ -45,6 +49,7 @@ public class CachedPlane {
     private final int x_size;
     private final int z_size;
     private final int cx_size;
+    private final int cy_size;
     private final int cz_size;
     private final int x_offset;
     private final int y_offset;
@@ -88,21 +93,21 @@ public class CachedPlane {
         final int maxCZ = maxZ >> 4;
 
         this.cx_size = maxCX - minCX + 1;
-        final int cy_size = maxCY - minCY + 1;
+        this.cy_size = maxCY - minCY + 1;
         this.cz_size = maxCZ - minCZ + 1;
 
         this.myChunks = new Chunk[this.cx_size][this.cz_size];
         this.myColumns = new Column[this.x_size][this.z_size];
 
         this.verticalBits = 0;
-        for (int cy = 0; cy < cy_size; cy++) {
+        for (int cy = 0; cy < this.cy_size; cy++) {
             this.verticalBits |= 1 << (minCY + cy);
         }
 
         for (int x = 0; x < this.x_size; x++) {
             for (int z = 0; z < this.z_size; z++) {
                 this.myColumns[x][z] = new Column(w.getChunk((minX + x) >> 4,
-                        (minZ + z) >> 4), (minX + x) & 0xF, (minZ + z) & 0xF, minCY, cy_size);
+                        (minZ + z) >> 4), (minX + x) & 0xF, (minZ + z) & 0xF, minCY, this.cy_size);
             }
         }
 
@@ -164,15 +169,22 @@ public class CachedPlane {
             }
         }
 
+        // one pass over the loaded tiles, instead of searching them for every tile that is moved.
+        final Set<TileEntity> moved = new ReferenceOpenHashSet<>(this.tiles);
+        boolean tickable = false;
         for (final TileEntity te : this.tiles) {
-            try {
-                this.getWorld().loadedTileEntityList.remove(te);
-                if (te instanceof ITickable) {
-                    this.getWorld().tickableTileEntities.remove(te);
-                }
-            } catch (final Exception e) {
-                AELog.debug(e);
+            tickable |= te instanceof ITickable;
+        }
+
+        try {
+            if (!moved.isEmpty()) {
+                this.getWorld().loadedTileEntityList.removeAll(moved);
+            }
+            if (tickable) {
+                this.getWorld().tickableTileEntities.removeAll(moved);
             }
+        } catch (final Exception e) {
+            AELog.debug(e);
         }
     }
 
@@ -188,6 +200,7 @@ public class CachedPlane {
             AELog.info("Block Copy Scale: " + this.x_size + ", " + this.y_size + ", " + this.z_size);
 
             long startTime = System.nanoTime();
+            final boolean[][][] swapped = this.swapSections(dst);
             final BlockStorageData aD = new BlockStorageData();
             final BlockStorageData bD = new BlockStorageData();
 
@@ -200,6 +213,10 @@ public class CachedPlane {
                         final int src_y = y + this.y_offset;
                         final int dst_y = y + dst.y_offset;
 
+                        if (swapped != null && this.isSwapped(swapped, x + this.x_offset, src_y, z + this.z_offset)) {
+                            continue;
+                        }
+
                         if (a.doNotSkip(src_y) && b.doNotSkip(dst_y)) {
                             a.fillData(src_y, aD);
                             b.fillData(dst_y, bD);
@@ -252,6 +269,142 @@ public class CachedPlane {
         }
     }
 
+    /**
+     * Swaps all sections that are completely inside both planes as a whole, which is only possible if both planes are
+     * offset from each other by a multiple of 16.
+     *
+     * @return which of the sections of this plane were swapped, or null if none could be.
+     */
+    private boolean[][][] swapSections(final CachedPlane dst) {
+        final int dx = dst.x_offset - this.x_offset;
+        final int dy = dst.y_offset - this.y_offset;
+        final int dz = dst.z_offset - this.z_offset;
+
+        if ((dx & 15) != 0 || (dy & 15) != 0 || (dz & 15) != 0) {
+            return null;
+        }
+
+        final boolean[][][] swapped = new boolean[this.cx_size][this.cy_size][this.cz_size];
+        final int minCY = this.y_offset >> 4;
+        int count = 0;
+
+        for (int cx = 0; cx < this.cx_size; cx++) {
+            for (int cz = 0; cz < this.cz_size; cz++) {
+                final Chunk a = this.myChunks[cx][cz];
+
+                if (!this.isInside(a.x << 4, this.x_offset, this.x_size)
+                        || !this.isInside(a.z << 4, this.z_offset, this.z_size)) {
+                    continue;
+                }
+
+                final Chunk b = dst.myChunks[a.x + (dx >> 4) - (dst.x_offset >> 4)][a.z + (dz >> 4)
+                        - (dst.z_offset >> 4)];
+
+                for (int cy = 0; cy < this.cy_size; cy++) {
+                    final int ay = minCY + cy;
+                    final int by = ay + (dy >> 4);
+
+                    if (!this.isInside(ay << 4, this.y_offset, this.y_size) || !this.canSwapSection(a, ay)
+                            || !dst.canSwapSection(b, by)) {
+                        continue;
+                    }
+
+                    final ExtendedBlockStorage[] aStorage = a.getBlockStorageArray();
+                    final ExtendedBlockStorage[] bStorage = b.getBlockStorageArray();
+                    final ExtendedBlockStorage section = aStorage[ay];
+
+                    aStorage[ay] = this.adoptSection(bStorage[by], ay);
+                    bStorage[by] = dst.adoptSection(section, by);
+
+                    swapped[cx][cy][cz] = true;
+                    count++;
+                }
+            }
+        }
+
+        AELog.info("Sections Swapped: " + count);
+        return swapped;
+    }
+
+    private boolean isSwapped(final boolean[][][] swapped, final int x, final int y, final int z) {
+        return swapped[(x >> 4) - (this.x_offset >> 4)][(y >> 4) - (this.y_offset >> 4)][(z >> 4)
+                - (this.z_offset >> 4)];
+    }
+
+    private boolean isInside(final int start, final int offset, final int size) {
+        return start >= offset && start + 15 < offset + size;
+    }
+
+    /**
+     * @return false if the section contains a block that must not be moved, or may not be replaced.
+     */
+    private boolean canSwapSection(final Chunk c, final int sectionY) {
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                final Column column = this.myColumns[(c.x << 4) + x - this.x_offset][(c.z << 4) + z - this.z_offset];
+
+                if (column.skipThese != null) {
+                    for (final int y : column.skipThese) {
+                        if (y >> 4 == sectionY) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+
+        final ExtendedBlockStorage section = c.getBlockStorageArray()[sectionY];
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    if (this.reg.isBlacklisted(section.get(x, y, z).getBlock())) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Prepares a section of the other plane to be placed at the given height of this plane.
+     *
+     * A section knows its own height and whether it carries sky light, it is only copied if either does not match.
+     */
+    private ExtendedBlockStorage adoptSection(final ExtendedBlockStorage section, final int sectionY) {
+        final boolean hasSkyLight = this.world.provider.hasSkyLight();
+        ExtendedBlockStorage result = section;
+
+        if (section.getYLocation() != sectionY << 4 || (section.getSkyLight() != null) != hasSkyLight) {
+            final byte[] blockIds = new byte[4096];
+            final NibbleArray data = new NibbleArray();
+            final NibbleArray blockIdExtension = section.getData().getDataForNBT(blockIds, data);
+
+            result = new ExtendedBlockStorage(sectionY << 4, hasSkyLight);
+            result.getData().setDataFromNBT(blockIds, data, blockIdExtension);
+            result.setBlockLight(section.getBlockLight());
+            if (hasSkyLight && section.getSkyLight() != null) {
+                result.setSkyLight(section.getSkyLight());
+            }
+            result.recalculateRefCounts();
+        }
+
+        if (this.matrixBlockState != null) {
+            for (int y = 0; y < 16; y++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int x = 0; x < 16; x++) {
+                        if (result.get(x, y, z) == this.matrixBlockState) {
+                            result.set(x, y, z, Platform.AIR_BLOCK.getDefaultState());
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
     private void markForUpdate(final int x, final int y, final int z) {
         this.updates.add(new WorldCoord(x, y, z));
         for (final AEPartLocation d : AEPartLocation.SIDE_LOCATIONS) {
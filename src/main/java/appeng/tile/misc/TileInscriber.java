@@ -97,6 +97,8 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
     private final IItemHandler sideItemHandlerExtern;
 
     private IInscriberRecipe cachedTask = null;
+    // also remembers that there is no recipe for the current content.
+    private boolean isTaskCached = false;
 
     private final IItemHandlerModifiable inv = new WrapperChainedItemHandler(this.topItemHandler,
             this.bottomItemHandler, this.sideItemHandler);
@@ -163,6 +165,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
             }
         }
         this.cachedTask = null;
+        this.isTaskCached = false;
 
         return c;
     }
@@ -229,6 +232,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
             }
 
             this.cachedTask = null;
+            this.isTaskCached = false;
             this.getProxy().getTick().wakeDevice(this.getProxy().getNode());
         } catch (final GridAccessException e) {
             // :P
@@ -253,10 +257,11 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
 
     @Nullable
     public IInscriberRecipe getTask() {
-        if (this.cachedTask == null) {
+        if (!this.isTaskCached) {
             this.cachedTask = this.getTask(this.sideItemHandler.getStackInSlot(0),
                     this.topItemHandler.getStackInSlot(0),
                     this.bottomItemHandler.getStackInSlot(0));
+            this.isTaskCached = true;
         }
         return this.cachedTask;
     }
@@ -274,7 +279,7 @@ public class TileInscriber extends AENetworkPowerTile implements IGridTickable,
             return null;
         }
 
-        for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipes()) {
+        for (final IInscriberRecipe recipe : AEApi.instance().registries().inscriber().getRecipesFor(input)) {
 
             // Check if plateA matches any item in the list of top components of the recipe
             final boolean matchA = plateA.isEmpty() && recipe.getTopInputs().isEmpty() ||
@@ -83,6 +83,7 @@ public class TileInterface extends AENetworkInvTile
     @MENetworkEventSubscribe
     public void stateChange(final MENetworkChannelsChanged c) {
         this.duality.notifyNeighbors();
+        this.duality.onTerminalEntryChanged();
     }
 
     @MENetworkEventSubscribe
@@ -255,6 +256,17 @@ public class TileInterface extends AENetworkInvTile
         return this.duality.pushPattern(patternDetails, table);
     }
 
+    @Override
+    public int getMaxPatternCopies(final ICraftingPatternDetails patternDetails) {
+        return this.duality.getMaxPatternCopies(patternDetails);
+    }
+
+    @Override
+    public boolean pushPatterns(final ICraftingPatternDetails patternDetails, final InventoryCrafting table,
+            final int copies) {
+        return this.duality.pushPatterns(patternDetails, table, copies);
+    }
+
     @Override
     public boolean isBusy() {
         return this.duality.isBusy();
@@ -0,0 +1,219 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.inv;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.items.IItemHandler;
+
+import appeng.api.config.StorageFilter;
+import appeng.api.storage.StorageChannels;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.api.storage.data.IItemList;
+import appeng.util.item.AEItemStack;
+
+/**
+ * Remembers the content of an inventory slot by slot, so it can be compared against the inventory without building a
+ * new item list on every scan.
+ *
+ * Each slot is kept as a fingerprint of item, damage, count and a copy of its NBT. Only slots whose fingerprint changed are
+ * turned into AE stacks, and only their difference is applied to the aggregated list. Extractability is only checked
+ * again when the content of a slot changed, or when a scan is forced.
+ */
+public final class ItemSlotCache {
+
+    private final IItemList<IAEItemStack> items = StorageChannels.items().createList();
+    private SlotState[] slots = new SlotState[0];
+    private int cursor = 0;
+
+    /**
+     * @return the aggregated content of all visible slots, as of the last scan
+     */
+    public IItemList<IAEItemStack> getItems() {
+        return this.items;
+    }
+
+    /**
+     * Scans up to budget slots of the handler, continuing where the previous scan stopped.
+     *
+     * @param force   also re-checks slots whose content did not change
+     * @param changes receives the difference to the previous content
+     * @return true if the scan reached the last slot of the inventory
+     */
+    public boolean scan(final IItemHandler handler, final StorageFilter mode, final int budget, final boolean force,
+            final IItemList<IAEItemStack> changes) {
+        final int size = handler.getSlots();
+        this.resize(size, changes);
+
+        if (this.cursor >= size) {
+            this.cursor = 0;
+        }
+
+        final int todo = Math.min(budget, size - this.cursor);
+        for (int i = 0; i < todo; i++) {
+            this.refresh(handler, this.cursor++, mode, force, changes);
+        }
+
+        if (this.cursor >= size) {
+            this.cursor = 0;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Re-reads a single slot, e.g. after items were inserted into or extracted from it.
+     */
+    public void refresh(final IItemHandler handler, final int slot, final StorageFilter mode, final boolean force,
+            final IItemList<IAEItemStack> changes) {
+        if (slot >= this.slots.length) {
+            this.resize(handler.getSlots(), changes);
+
+            if (slot >= this.slots.length) {
+                return;
+            }
+        }
+
+        final ItemStack stack = handler.getStackInSlot(slot);
+        final SlotState old = this.slots[slot];
+
+        if (!force && old != null && old.matches(stack)) {
+            return;
+        }
+
+        if (stack.isEmpty()) {
+            this.update(slot, stack, false, changes);
+        } else {
+            this.update(slot, stack,
+                    mode != StorageFilter.EXTRACTABLE_ONLY
+                            || !handler.extractItem(slot, Integer.MAX_VALUE, true).isEmpty(),
+                    changes);
+        }
+    }
+
+    /**
+     * Updates a slot from an already read {@link ItemSlot}.
+     */
+    public void update(final ItemSlot slot, final StorageFilter mode, final IItemList<IAEItemStack> changes) {
+        final ItemStack stack = slot.getItemStack();
+        this.update(slot.getSlot(), stack,
+                !stack.isEmpty() && (mode != StorageFilter.EXTRACTABLE_ONLY || slot.isExtractable()), changes);
+    }
+
+    /**
+     * Adjusts to the number of slots of the inventory, the content of slots past the end is dropped.
+     */
+    public void resize(final int size, final IItemList<IAEItemStack> changes) {
+        if (size < this.slots.length) {
+            for (int slot = size; slot < this.slots.length; slot++) {
+                this.remove(this.slots[slot], changes);
+            }
+        }
+
+        if (size != this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, size);
+        }
+    }
+
+    private void update(final int slot, final ItemStack stack, final boolean visible,
+            final IItemList<IAEItemStack> changes) {
+        if (slot >= this.slots.length) {
+            this.slots = Arrays.copyOf(this.slots, slot + 1);
+        }
+
+        final SlotState old = this.slots[slot];
+
+        if (stack.isEmpty()) {
+            this.remove(old, changes);
+            this.slots[slot] = null;
+            return;
+        }
+
+        final boolean sameItem = old != null && old.isSameItem(stack);
+
+        if (sameItem && old.count == stack.getCount() && old.isVisible() == visible) {
+            return;
+        }
+
+        this.remove(old, changes);
+
+        IAEItemStack current = null;
+        if (visible) {
+            // only the count changed, which saves us from looking up the shared stack again.
+            if (sameItem && old.stack != null) {
+                current = old.stack.copy();
+                current.setStackSize(stack.getCount());
+            } else {
+                current = AEItemStack.fromItemStack(stack);
+            }
+
+            this.items.addStorage(current);
+            changes.addStorage(current);
+        }
+
+        if (sameItem) {
+            this.slots[slot] = new SlotState(old.item, old.meta, stack.getCount(), old.tagHash, old.tag, current);
+        } else {
+            final NBTTagCompound tag = stack.getTagCompound();
+            // the tag is copied, it might be changed in place later on.
+            this.slots[slot] = new SlotState(stack.getItem(), stack.getItemDamage(), stack.getCount(),
+                    tag == null ? 0 : tag.hashCode(), tag == null ? null : tag.copy(), current);
+        }
+    }
+
+    private void remove(final SlotState state, final IItemList<IAEItemStack> changes) {
+        if (state == null || state.stack == null) {
+            return;
+        }
+
+        final IAEItemStack removed = state.stack.copy();
+        removed.setStackSize(-state.stack.getStackSize());
+        this.items.addStorage(removed);
+        changes.addStorage(removed);
+    }
+
+    /**
+     * @param stack the stack this slot adds to the aggregated list, null if the slot is not visible
+     */
+    private record SlotState(Item item, int meta, int count, int tagHash, NBTTagCompound tag, IAEItemStack stack) {
+
+        private boolean isVisible() {
+            return this.stack != null;
+        }
+
+        private boolean isSameItem(final ItemStack other) {
+            if (this.item != other.getItem() || this.meta != other.getItemDamage()) {
+                return false;
+            }
+
+            final NBTTagCompound otherTag = other.getTagCompound();
+            // the hash only rules out most differences cheaply, equal hashes still need a full comparison.
+            return this.tagHash == (otherTag == null ? 0 : otherTag.hashCode()) && Objects.equals(this.tag, otherTag);
+        }
+
+        private boolean matches(final ItemStack other) {
+            return !other.isEmpty() && this.count == other.getCount() && this.isSameItem(other);
+        }
+    }
+}
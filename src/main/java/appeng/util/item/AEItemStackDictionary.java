@@ -0,0 +1,80 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+import appeng.api.storage.data.IAEItemStack;
+
+/**
+ * Assigns small ids to item types sent to a client, so the definition of an item only has to be sent once.
+ *
+ * The server keeps one dictionary per player watching a container and the client one per open container. Both sides
+ * learn an id from the packet that first carries the definition of the item, so packets have to be handled in the order
+ * they were written.
+ */
+public final class AEItemStackDictionary {
+
+    private final Object2IntMap<IAEItemStack> ids = new Object2IntOpenHashMap<>();
+    private final Int2ObjectMap<IAEItemStack> definitions = new Int2ObjectOpenHashMap<>();
+
+    public AEItemStackDictionary() {
+        this.ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * @return the id assigned to the type of the stack, or -1 if it has none yet
+     */
+    public int getId(final IAEItemStack is) {
+        return this.ids.getInt(is);
+    }
+
+    /**
+     * @return the id the next registered type will get
+     */
+    public int nextId() {
+        return this.ids.size();
+    }
+
+    /**
+     * Assigns the next free id to the type of the stack.
+     */
+    public int register(final IAEItemStack is) {
+        final int id = this.nextId();
+        this.ids.put(is.copy(), id);
+        return id;
+    }
+
+    /**
+     * Remembers the item type received for an id, replacing any previous definition.
+     */
+    public void define(final int id, final IAEItemStack is) {
+        this.definitions.put(id, is);
+    }
+
+    /**
+     * @return the item type received for the id, or null if it was never defined
+     */
+    public IAEItemStack get(final int id) {
+        return this.definitions.get(id);
+    }
+}
@@ -31,21 +31,30 @@ import com.google.common.collect.MapMaker;
 
 import net.minecraft.item.ItemStack;
 
+/**
+ * Interns the item definitions shared by all {@link AEItemStack}s.
+ *
+ * Entries are keyed by item, damage and NBT, so stacks that only share a hash code stay apart. Lookups go through a
+ * segmented concurrent map and only a miss allocates, so the server thread and the crafting calculators do not contend
+ * on a single lock. Definitions that are no longer used by any stack are dropped together with their key.
+ */
 public final class AEItemStackRegistry {
 
     private static final ItemStackHashStrategy HASH_STRATEGY = ItemStackHashStrategy.comparingAllButCount();
-    private static final Map<Integer, AESharedItemStack> REGISTRY = new MapMaker().weakValues().makeMap();
+    private static final Map<StackKey, AESharedItemStack> REGISTRY = new MapMaker()
+            .concurrencyLevel(16)
+            .weakValues()
+            .makeMap();
 
     private AEItemStackRegistry() {
     }
 
-    static synchronized AESharedItemStack getRegisteredStack(final @Nonnull ItemStack itemStack) {
+    static AESharedItemStack getRegisteredStack(final @Nonnull ItemStack itemStack) {
         if (itemStack.isEmpty()) {
             throw new IllegalArgumentException("stack cannot be empty");
         }
 
-        var hash = HASH_STRATEGY.hashCode(itemStack);
-        var ret = REGISTRY.get(hash);
+        var ret = REGISTRY.get(new StackKey(itemStack));
         if (ret != null) {
             return ret;
         }
@@ -55,7 +64,42 @@ public final class AEItemStackRegistry {
         var itemStackCopy = itemStack.copy();
         itemStackCopy.setCount(1);
         var sharedStack = new AESharedItemStack(itemStackCopy);
-        REGISTRY.put(hash, sharedStack);
-        return sharedStack;
+
+        // Another thread might have registered the same item in the meantime, everyone has to end up with the same
+        // instance. The local reference keeps our value alive until the entry is in place.
+        var existing = REGISTRY.putIfAbsent(new StackKey(itemStackCopy), sharedStack);
+        return existing != null ? existing : sharedStack;
+    }
+
+    /**
+     * Compares the wrapped stacks by item, damage and NBT. Keys used for lookups wrap the caller's stack, only keys
+     * stored in the map wrap the copy held by the {@link AESharedItemStack}.
+     */
+    private static final class StackKey {
+
+        private final ItemStack stack;
+        private final int hash;
+
+        private StackKey(final ItemStack stack) {
+            this.stack = stack;
+            this.hash = HASH_STRATEGY.hashCode(stack);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StackKey other)) {
+                return false;
+            }
+
+            return this.hash == other.hash && HASH_STRATEGY.equals(this.stack, other.stack);
+        }
     }
 }
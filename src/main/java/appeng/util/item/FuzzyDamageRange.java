@@ -0,0 +1,55 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.util.item;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+import appeng.api.config.FuzzyMode;
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.Platform;
+
+/**
+ * The damage values a fuzzy search for a damageable item selects, the same range that
+ * {@link appeng.api.storage.data.IItemList#findFuzzy} returns.
+ *
+ * @param lower the highest damage that is included
+ * @param upper the damage right below the lowest one that is included
+ */
+public record FuzzyDamageRange(int lower, int upper) {
+
+    /**
+     * @return the range, or null if the item has no durability and every variant of it matches.
+     */
+    public static FuzzyDamageRange of(final ItemStack filter, final FuzzyMode fuzzy) {
+        final Item item = filter.getItem();
+
+        if (!item.isDamageable() && !Platform.isGTDamageableItem(item)) {
+            return null;
+        }
+
+        return new FuzzyDamageRange(FuzzyItemVariantList.makeLowerBound(filter, fuzzy).itemDamage,
+                FuzzyItemVariantList.makeUpperBound(filter, fuzzy).itemDamage);
+    }
+
+    public boolean contains(final IAEItemStack stack) {
+        final int damage = stack.getDefinition().getItemDamage();
+        return damage <= this.lower && damage > this.upper;
+    }
+}
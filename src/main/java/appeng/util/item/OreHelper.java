@@ -19,6 +19,7 @@
 package appeng.util.item;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
@@ -26,8 +27,12 @@ import com.google.common.cache.LoadingCache;
 
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.oredict.OreDictionary;
 
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+
 import appeng.api.storage.data.IAEItemStack;
 
 public class OreHelper {
@@ -45,7 +50,10 @@ public class OreHelper {
                 }
             });
 
-    private final Map<ItemRef, OreReference> references = new HashMap<>();
+    /**
+     * Ore references by item and damage. Items without any ore are cached as empty.
+     */
+    private final Map<ItemRef, Optional<OreReference>> references = new ConcurrentHashMap<>();
 
     /**
      * Test if the passed {@link ItemStack} is an ore.
@@ -55,41 +63,64 @@ public class OreHelper {
      */
     public Optional<OreReference> getOre(final ItemStack itemStack) {
         final ItemRef ir = new ItemRef(itemStack);
+        final Optional<OreReference> cached = this.references.get(ir);
 
-        if (!this.references.containsKey(ir)) {
-            final OreReference ref = new OreReference();
-            final Collection<Integer> ores = ref.getOres();
-            final Collection<String> set = ref.getEquivalents();
+        if (cached != null) {
+            return cached;
+        }
 
-            final Set<String> toAdd = new HashSet<>();
+        final Optional<OreReference> ref = Optional.ofNullable(createReference(itemStack));
+        final Optional<OreReference> previous = this.references.putIfAbsent(ir, ref);
 
-            for (final String ore : OreDictionary.getOreNames()) {
-                // skip ore if it is a match already or null.
-                if (ore == null || toAdd.contains(ore)) {
-                    continue;
-                }
+        return previous != null ? previous : ref;
+    }
 
-                for (final ItemStack oreItem : this.oreDictCache.getUnchecked(ore)) {
-                    if (OreDictionary.itemMatches(oreItem, itemStack, false)) {
-                        toAdd.add(ore);
-                        break;
-                    }
-                }
-            }
+    /**
+     * Uses the per item index of the ore dictionary, instead of testing every registered ore.
+     */
+    private static OreReference createReference(final ItemStack itemStack) {
+        if (itemStack.isEmpty()) {
+            return null;
+        }
 
-            for (final String ore : toAdd) {
-                set.add(ore);
-                ores.add(OreDictionary.getOreID(ore));
+        final int[] ids = OreDictionary.getOreIDs(itemStack);
+        if (ids.length == 0) {
+            return null;
+        }
+
+        return new OreReference(ids);
+    }
+
+    /**
+     * Keeps the cached references in sync with ores registered after they were first looked up.
+     */
+    @SubscribeEvent
+    public void onOreRegister(final OreDictionary.OreRegisterEvent event) {
+        final ItemStack ore = event.getOre();
+
+        if (event.getName() == null || ore.isEmpty() || this.references.isEmpty()) {
+            return;
+        }
+
+        final int id = OreDictionary.getOreID(event.getName());
+        final boolean wildcard = ore.getItemDamage() == OreDictionary.WILDCARD_VALUE || ore.getItem().isDamageable();
+
+        for (final Iterator<Map.Entry<ItemRef, Optional<OreReference>>> it = this.references.entrySet()
+                .iterator(); it.hasNext();) {
+            final Map.Entry<ItemRef, Optional<OreReference>> entry = it.next();
+            final ItemRef ir = entry.getKey();
+
+            if (ir.ref != ore.getItem() || !wildcard && ir.damage != ore.getItemDamage()) {
+                continue;
             }
 
-            if (!set.isEmpty()) {
-                this.references.put(ir, ref);
+            if (entry.getValue().isPresent()) {
+                // stacks that already exist keep the old reference, new ones pick up the copy.
+                entry.setValue(Optional.of(entry.getValue().get().withOre(id)));
             } else {
-                this.references.put(ir, null);
+                it.remove();
             }
         }
-
-        return Optional.ofNullable(this.references.get(ir));
     }
 
     boolean sameOre(final AEItemStack aeItemStack, final IAEItemStack is) {
@@ -108,8 +139,8 @@ public class OreHelper {
             return true;
         }
 
-        final Collection<Integer> bOres = b.getOres();
-        for (final Integer ore : a.getOres()) {
+        final IntSet bOres = b.getOres();
+        for (final int ore : a.getOres()) {
             if (bOres.contains(ore)) {
                 return true;
             }
@@ -119,20 +150,11 @@ public class OreHelper {
     }
 
     boolean sameOre(final AEItemStack aeItemStack, final ItemStack o) {
-        return aeItemStack.getOre().map(a -> {
-            for (final String oreName : a.getEquivalents()) {
-                for (final ItemStack oreItem : this.oreDictCache.getUnchecked(oreName)) {
-                    if (OreDictionary.itemMatches(oreItem, o, false)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }).orElse(false);
+        return this.sameOre(aeItemStack.getOre().orElse(null), this.getOre(o).orElse(null));
     }
 
-    public Set<Integer> getMatchingOre(List<OreDictFilterMatcher.MatchRule> rulesList) {
-        Set<Integer> matchingIds = new HashSet<>();
+    public IntSet getMatchingOre(List<OreDictFilterMatcher.MatchRule> rulesList) {
+        IntSet matchingIds = new IntOpenHashSet();
 
         for (String ore : OreDictionary.getOreNames()) {
             if (ore == null) {
@@ -22,37 +22,72 @@ import java.util.*;
 
 import net.minecraft.init.Items;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
 
 import appeng.api.storage.data.IAEItemStack;
 
 public class OreReference {
 
-    private final List<String> otherOptions = new ArrayList<>();
-    private final Set<Integer> ores = new HashSet<>();
-    private List<IAEItemStack> aeOtherOptions = null;
+    private final List<String> otherOptions;
+    private final IntSet ores;
+    private volatile List<IAEItemStack> aeOtherOptions = null;
+
+    OreReference(final int[] ids) {
+        this(new IntOpenHashSet(), new ArrayList<>(ids.length), ids);
+    }
+
+    private OreReference(final IntSet ores, final List<String> otherOptions, final int... ids) {
+        for (final int id : ids) {
+            if (ores.add(id)) {
+                otherOptions.add(OreDictionary.getOreName(id));
+            }
+        }
+
+        this.ores = IntSets.unmodifiable(ores);
+        this.otherOptions = Collections.unmodifiableList(otherOptions);
+    }
 
     Collection<String> getEquivalents() {
         return this.otherOptions;
     }
 
+    /**
+     * References are shared between threads, so a late ore registration publishes a copy instead of changing this one.
+     */
+    OreReference withOre(final int id) {
+        if (this.ores.contains(id)) {
+            return this;
+        }
+
+        return new OreReference(new IntOpenHashSet(this.ores), new ArrayList<>(this.otherOptions), id);
+    }
+
     public List<IAEItemStack> getAEEquivalents() {
-        if (this.aeOtherOptions == null) {
-            this.aeOtherOptions = new ArrayList<>(this.otherOptions.size());
+        List<IAEItemStack> options = this.aeOtherOptions;
+
+        if (options == null) {
+            options = new ArrayList<>(this.otherOptions.size());
 
             // SUMMON AE STACKS!
             for (final String oreName : this.otherOptions) {
                 for (final ItemStack is : OreHelper.INSTANCE.getCachedOres(oreName)) {
                     if (is.getItem() != Items.AIR) {
-                        this.aeOtherOptions.add(AEItemStack.fromItemStack(is));
+                        options.add(AEItemStack.fromItemStack(is));
                     }
                 }
             }
+
+            this.aeOtherOptions = options;
         }
 
-        return this.aeOtherOptions;
+        return options;
     }
 
-    public Collection<Integer> getOres() {
+    public IntSet getOres() {
         return this.ores;
     }
 }
@@ -2,7 +2,8 @@ package appeng.util.prioritylist;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+
+import it.unimi.dsi.fastutil.ints.IntSet;
 
 import appeng.api.storage.data.IAEStack;
 import appeng.util.item.AEItemStack;
@@ -12,7 +13,7 @@ import appeng.util.item.OreHelper;
 import appeng.util.item.OreReference;
 
 public class OreDictPriorityList<T extends IAEStack> implements IPartitionList<T> {
-    private final Set<Integer> oreIDs;
+    private final IntSet oreIDs;
     private final boolean matchesEmptyOreDict;
 
     public OreDictPriorityList(List<MatchRule> oreMatch) {
@@ -26,7 +27,7 @@ public class OreDictPriorityList<T extends IAEStack> implements IPartitionList<T
         if (or == null)
             return matchesEmptyOreDict;
 
-        for (Integer oreID : or.getOres()) {
+        for (int oreID : or.getOres()) {
             if (this.oreIDs.contains(oreID)) {
                 return true;
             }
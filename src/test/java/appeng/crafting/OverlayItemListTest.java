@@ -0,0 +1,90 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2013 - 2014, AlgorithmX2, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.crafting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+
+import appeng.api.storage.data.IAEItemStack;
+import appeng.util.item.AEItemStack;
+import appeng.util.item.ItemList;
+
+class OverlayItemListTest {
+
+    @BeforeAll
+    static void bootstrap() {
+        Bootstrap.register();
+    }
+
+    private static IAEItemStack stack(final long amount) {
+        final IAEItemStack is = AEItemStack.fromItemStack(new ItemStack(Items.DIAMOND));
+        is.setStackSize(amount);
+        return is;
+    }
+
+    @Test
+    void childSeesItemsInjectedAfterParentEmptiedThem() {
+        final ItemList grandparent = new ItemList();
+        grandparent.add(stack(5));
+
+        final OverlayItemList parent = new OverlayItemList(grandparent);
+        parent.findPrecise(stack(1)).decStackSize(5);
+
+        final OverlayItemList child = new OverlayItemList(parent);
+        child.add(stack(3));
+
+        final List<IAEItemStack> listed = new ArrayList<>();
+        child.forEach(listed::add);
+
+        assertEquals(1, listed.size());
+        assertEquals(3, listed.get(0).getStackSize());
+        assertEquals(1, child.size());
+        assertFalse(child.isEmpty());
+        assertNotNull(child.getFirstItem());
+        assertEquals(3, child.getFirstItem().getStackSize());
+
+        // the layers below are left alone.
+        assertFalse(parent.iterator().hasNext());
+        assertEquals(5, grandparent.findPrecise(stack(1)).getStackSize());
+    }
+
+    @Test
+    void resetHidesInheritedEntries() {
+        final ItemList base = new ItemList();
+        base.add(stack(5));
+
+        final OverlayItemList overlay = new OverlayItemList(base);
+        overlay.resetStatus();
+
+        assertFalse(overlay.iterator().hasNext());
+        assertEquals(0, overlay.findPrecise(stack(1)).getStackSize());
+        assertEquals(5, base.findPrecise(stack(1)).getStackSize());
+    }
+}